@@ -0,0 +1,24 @@
+package com.example.vocabulary;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * 把创建的请求登记到当前线程绑定的 RequestAbortHandle，对冲落败时可以从其他线程中止
+ */
+public class AbortableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    public AbortableRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        RequestAbortHandle handle = RequestAbortHandle.current();
+        if (handle != null && request instanceof Cancellable) {
+            handle.register((Cancellable) request);
+        }
+    }
+}
@@ -1,156 +1,201 @@
 package com.example.vocabulary;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
 public class AuthController {
 
+    // 与 users.username 列长度一致
+    private static final int MAX_USERNAME_LENGTH = 50;
+
+    // Tomcat 的 sendfile 请求属性（org.apache.coyote.Constants）
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final TokenService tokenService;
+    private final PasswordHashingService passwordHashingService;
+    private final UsernameIndex usernameIndex;
+    private final AvatarStore avatarStore;
+
+    // Spring Boot 自动配置的通用任务线程池，用于哈希完成后的数据库操作
+    private final Executor taskExecutor;
 
     @Autowired
-    public AuthController(UserRepository userRepository) {
+    public AuthController(UserRepository userRepository, TokenService tokenService,
+                          PasswordHashingService passwordHashingService, UsernameIndex usernameIndex,
+                          AvatarStore avatarStore,
+                          @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
         this.userRepository = userRepository;
+        this.tokenService = tokenService;
+        this.passwordHashingService = passwordHashingService;
+        this.usernameIndex = usernameIndex;
+        this.avatarStore = avatarStore;
+        this.taskExecutor = taskExecutor;
     }
 
+    /**
+     * 密码哈希在 PasswordHashingService 的线程池中执行，请求线程只负责查库；
+     * 线程池已满时返回 503，由客户端稍后重试
+     */
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody Map<String, String> payload) {
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody Map<String, String> payload) {
         String username = payload.get("username");
         String password = payload.get("password");
 
         if (username == null || username.trim().isEmpty()
                 || password == null || password.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("用户名和密码不能为空");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("用户名和密码不能为空"));
         }
-
-        if (userRepository.existsByUsername(username.trim())) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("用户名已存在");
+        // 超长用户名在哈希之前拒绝，不占用哈希名额，也不会被当作用户名冲突
+        if (username.trim().length() > MAX_USERNAME_LENGTH) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("用户名不能超过" + MAX_USERNAME_LENGTH + "个字符"));
         }
 
-        String hash = passwordEncoder.encode(password.trim());
-        User user = new User(username.trim(), hash);
-        userRepository.save(user);
+        // 不预先查询用户名是否存在，直接插入，由唯一约束判断冲突
+        // 哈希线程只负责 BCrypt，插入和冲突处理切换到普通任务线程池，不占用哈希名额
+        return passwordHashingService.encode(password.trim())
+                .<ResponseEntity<?>>thenApplyAsync(hash -> {
+                    User user = new User(username.trim(), hash);
+                    try {
+                        userRepository.saveAndFlush(user);
+                    } catch (DataIntegrityViolationException e) {
+                        // 只有用户名确实已被占用才是冲突；其他约束失败按服务器错误返回
+                        if (userRepository.existsByUsername(username.trim())) {
+                            return ResponseEntity.status(HttpStatus.CONFLICT).body("用户名已存在");
+                        }
+                        System.err.println("❌ 注册失败: " + e.getMostSpecificCause().getMessage());
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("注册失败，请稍后重试");
+                    }
+                    usernameIndex.add(user.getUsername());
+                    return ResponseEntity.ok(userResponse(user, true));
+                }, taskExecutor)
+                .exceptionally(this::hashingFailed);
+    }
 
-        Map<String, Object> resp = new HashMap<>();
-        resp.put("id", user.getId());
-        resp.put("username", user.getUsername());
-        resp.put("avatarUrl", user.getAvatarUrl());
+    /**
+     * 注册时输入用户名过程中的可用性检查：用户名索引中没有的一定可用，不查询数据库
+     */
+    @GetMapping("/username-available")
+    public ResponseEntity<?> usernameAvailable(@RequestParam("username") String username) {
+        if (username == null || username.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body("用户名不能为空");
+        }
+        if (username.trim().length() > MAX_USERNAME_LENGTH) {
+            return ResponseEntity.badRequest().body("用户名不能超过" + MAX_USERNAME_LENGTH + "个字符");
+        }
 
-        // 添加今日任务信息（新用户默认为false/0）
-        Map<String, Object> dailyTasks = new HashMap<>();
-        dailyTasks.put("checkInCompleted", false);
-        dailyTasks.put("learnWordsProgress", 0);
-        dailyTasks.put("reviewWordsProgress", 0);
-        dailyTasks.put("studyTimeProgress", 0);
-        dailyTasks.put("lastTaskDate", null);
-        resp.put("dailyTasks", dailyTasks);
+        boolean available = !usernameIndex.mightExist(username)
+                || !userRepository.existsByUsername(username.trim());
 
+        Map<String, Object> resp = new HashMap<>();
+        resp.put("username", username.trim());
+        resp.put("available", available);
         return ResponseEntity.ok(resp);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> payload) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody Map<String, String> payload) {
         String username = payload.get("username");
         String password = payload.get("password");
 
         if (username == null || password == null
                 || username.trim().isEmpty() || password.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("用户名和密码不能为空");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("用户名和密码不能为空"));
         }
 
         Optional<User> userOpt = userRepository.findByUsername(username.trim());
         if (userOpt.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户名或密码错误");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户名或密码错误"));
         }
 
         User user = userOpt.get();
-        if (!passwordEncoder.matches(password.trim(), user.getPasswordHash())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户名或密码错误");
-        }
-
-        // 返回用户信息，包括头像URL和今日任务
-        Map<String, Object> resp = new HashMap<>();
-        resp.put("id", user.getId());
-        resp.put("username", user.getUsername());
-        resp.put("avatarUrl", user.getAvatarUrl());
-
-        // 添加今日任务信息
-        Map<String, Object> dailyTasks = new HashMap<>();
-        dailyTasks.put("checkInCompleted", user.getCheckInCompleted());
-        dailyTasks.put("learnWordsProgress", user.getLearnWordsProgress());
-        dailyTasks.put("reviewWordsProgress", user.getReviewWordsProgress());
-        dailyTasks.put("studyTimeProgress", user.getStudyTimeProgress());
-        dailyTasks.put("lastTaskDate", user.getLastTaskDate());
-        resp.put("dailyTasks", dailyTasks);
-
-        return ResponseEntity.ok(resp);
+        String storedHash = user.getPasswordHash();
+        return passwordHashingService.matches(password.trim(), storedHash)
+                .<ResponseEntity<?>>thenApply(matched -> {
+                    if (!matched) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户名或密码错误");
+                    }
+                    if (passwordHashingService.needsRehash(storedHash)) {
+                        rehash(user.getId(), storedHash, password.trim());
+                    }
+                    // 返回用户信息，包括头像URL和今日任务
+                    return ResponseEntity.ok(userResponse(user, true));
+                })
+                .exceptionally(this::hashingFailed);
     }
 
     @PostMapping("/verify")
     public ResponseEntity<?> verify(@RequestBody Map<String, Object> payload) {
         Object userIdObj = payload.get("userId");
-        if (userIdObj == null) {
-            return ResponseEntity.badRequest().body("用户ID不能为空");
-        }
-
-        Long userId;
+        Long legacyUserId = null;
         if (userIdObj instanceof Number) {
-            userId = ((Number) userIdObj).longValue();
+            legacyUserId = ((Number) userIdObj).longValue();
         } else if (userIdObj instanceof String) {
             try {
-                userId = Long.parseLong((String) userIdObj);
+                legacyUserId = Long.parseLong((String) userIdObj);
             } catch (NumberFormatException e) {
                 return ResponseEntity.badRequest().body("用户ID格式错误");
             }
-        } else {
+        } else if (userIdObj != null) {
             return ResponseEntity.badRequest().body("用户ID格式错误");
         }
 
+        Long userId = RequestUser.resolve(legacyUserId);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+
         Optional<User> userOptional = userRepository.findById(userId);
         if (userOptional.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
         }
 
+        // 通过令牌验证时续期令牌
         User user = userOptional.get();
-        Map<String, Object> resp = new HashMap<>();
-        resp.put("id", user.getId());
-        resp.put("username", user.getUsername());
-        resp.put("avatarUrl", user.getAvatarUrl());
-
-        // 添加今日任务信息
-        Map<String, Object> dailyTasks = new HashMap<>();
-        dailyTasks.put("checkInCompleted", user.getCheckInCompleted());
-        dailyTasks.put("learnWordsProgress", user.getLearnWordsProgress());
-        dailyTasks.put("reviewWordsProgress", user.getReviewWordsProgress());
-        dailyTasks.put("studyTimeProgress", user.getStudyTimeProgress());
-        dailyTasks.put("lastTaskDate", user.getLastTaskDate());
-        resp.put("dailyTasks", dailyTasks);
-
-        return ResponseEntity.ok(resp);
+        return ResponseEntity.ok(userResponse(user, RequestUser.isVerified(user.getId())));
     }
 
     @PostMapping("/avatar")
     public ResponseEntity<?> uploadAvatar(
             @RequestParam("avatar") MultipartFile file,
-            @RequestParam("userId") Long userId) {
+            @RequestParam(value = "userId", required = false) Long userId) {
         try {
+            userId = RequestUser.resolve(userId);
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+            }
+
             // 验证用户身份
             Optional<User> userOptional = userRepository.findById(userId);
             if (userOptional.isEmpty()) {
@@ -178,18 +223,13 @@ public class AuthController {
             }
 
             // 创建上传目录
-            Path uploadDir = Paths.get("uploads", "avatars");
+            Path uploadDir = AvatarStore.AVATAR_DIR;
             if (!Files.exists(uploadDir)) {
                 Files.createDirectories(uploadDir);
             }
 
-            // 生成唯一文件名
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String filename = UUID.randomUUID().toString() + extension;
+            // 生成唯一文件名（扩展名按内容类型确定）
+            String filename = UUID.randomUUID().toString() + AvatarStore.extensionFor(contentType);
 
             // 保存文件
             Path filePath = uploadDir.resolve(filename);
@@ -223,11 +263,14 @@ public class AuthController {
             String userIdStr = payload.get("userId");
             String avatarUrl = payload.get("avatarUrl");
 
-            if (userIdStr == null || avatarUrl == null) {
-                return ResponseEntity.badRequest().body("用户ID和头像URL不能为空");
+            if (avatarUrl == null) {
+                return ResponseEntity.badRequest().body("头像URL不能为空");
             }
 
-            Long userId = Long.parseLong(userIdStr);
+            Long userId = RequestUser.resolve(userIdStr != null ? Long.valueOf(userIdStr) : null);
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+            }
 
             // 验证用户身份
             Optional<User> userOptional = userRepository.findById(userId);
@@ -260,24 +303,38 @@ public class AuthController {
         }
     }
 
+    /**
+     * 头像文件名为 UUID，内容不会改变，允许浏览器长期缓存；
+     * 条件请求（If-None-Match / If-Modified-Since）返回 304，Range 请求返回 206（由 Spring 按区间输出）。
+     * 磁盘上的整文件 GET 请求交给 Tomcat 以 sendfile 输出，文件内容不经过 JVM 堆
+     */
     @GetMapping("/avatar/{filename}")
-    public ResponseEntity<?> getAvatar(@PathVariable String filename) {
+    public ResponseEntity<?> getAvatar(@PathVariable String filename, WebRequest webRequest,
+                                       HttpServletRequest request) {
         try {
-            Path filePath = Paths.get("uploads", "avatars", filename);
-            if (!Files.exists(filePath)) {
+            Optional<AvatarStore.Avatar> found = avatarStore.open(filename);
+            if (found.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
 
-            String contentType = "image/jpeg"; // 默认类型
-            if (filename.toLowerCase().endsWith(".png")) {
-                contentType = "image/png";
-            } else if (filename.toLowerCase().endsWith(".gif")) {
-                contentType = "image/gif";
+            AvatarStore.Avatar avatar = found.get();
+            if (webRequest.checkNotModified(avatar.getEtag(), avatar.getLastModified())) {
+                return null;
             }
 
-            return ResponseEntity.ok()
-                    .header("Content-Type", contentType)
-                    .body(Files.readAllBytes(filePath));
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(avatar.getContentType()))
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                    .eTag(avatar.getEtag())
+                    .lastModified(avatar.getLastModified());
+
+            if (canSendfile(avatar, request)) {
+                request.setAttribute(SENDFILE_FILENAME_ATTR, avatar.getPath().toString());
+                request.setAttribute(SENDFILE_START_ATTR, 0L);
+                request.setAttribute(SENDFILE_END_ATTR, avatar.getSize());
+                return response.contentLength(avatar.getSize()).build();
+            }
+            return response.body(avatar.getResource());
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -286,10 +343,24 @@ public class AuthController {
         }
     }
 
+    /**
+     * 只有连接器支持 sendfile 时才使用；Range 请求、HEAD 请求和内存中的头像仍由 Spring 输出
+     */
+    private static boolean canSendfile(AvatarStore.Avatar avatar, HttpServletRequest request) {
+        return avatar.getPath() != null
+                && "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR));
+    }
+
     @PostMapping("/update-daily-tasks")
     public ResponseEntity<?> updateDailyTasks(@RequestBody Map<String, Object> payload) {
         try {
-            Long userId = Long.parseLong(payload.get("userId").toString());
+            Object userIdObj = payload.get("userId");
+            Long userId = RequestUser.resolve(userIdObj != null ? Long.valueOf(userIdObj.toString()) : null);
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+            }
             Map<String, Object> tasks = (Map<String, Object>) payload.get("tasks");
 
             // 验证用户身份
@@ -332,5 +403,56 @@ public class AuthController {
                     .body("更新今日任务失败: " + e.getMessage());
         }
     }
+
+    /**
+     * 返回给前端的用户信息和今日任务（登录、注册、验证共用）
+     */
+    private Map<String, Object> userResponse(User user, boolean withToken) {
+        Map<String, Object> resp = new HashMap<>();
+        resp.put("id", user.getId());
+        resp.put("username", user.getUsername());
+        resp.put("avatarUrl", user.getAvatarUrl());
+        if (withToken) {
+            resp.put("token", tokenService.issue(user.getId()));
+        }
+
+        // 添加今日任务信息（新用户默认为false/0）
+        Map<String, Object> dailyTasks = new HashMap<>();
+        dailyTasks.put("checkInCompleted", user.getCheckInCompleted());
+        dailyTasks.put("learnWordsProgress", user.getLearnWordsProgress());
+        dailyTasks.put("reviewWordsProgress", user.getReviewWordsProgress());
+        dailyTasks.put("studyTimeProgress", user.getStudyTimeProgress());
+        dailyTasks.put("lastTaskDate", user.getLastTaskDate());
+        resp.put("dailyTasks", dailyTasks);
+        return resp;
+    }
+
+    /**
+     * BCrypt 强度调整后，用户下次登录时按新强度重新哈希；
+     * 只在哈希未被修改时更新，失败或线程池已满时下次登录再试
+     */
+    private void rehash(Long userId, String oldHash, String rawPassword) {
+        passwordHashingService.encode(rawPassword)
+                .thenAcceptAsync(newHash -> {
+                    if (userRepository.updatePasswordHash(userId, oldHash, newHash) > 0) {
+                        passwordHashingService.recordRehash();
+                    }
+                }, taskExecutor)
+                .exceptionally(e -> {
+                    System.err.println("⚠️ 重新哈希用户 " + userId + " 的密码失败: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    private ResponseEntity<?> hashingFailed(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof PasswordHashingService.SaturatedException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body("登录请求过多，请稍后重试");
+        }
+        cause.printStackTrace();
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("请求处理失败: " + cause.getMessage());
+    }
 }
 
@@ -0,0 +1,193 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 上传头像的读取：文件名为 UUID，内容写入后不再改变，响应可长期缓存。
+ * 磁盘上的头像由 AuthController 交给 Tomcat 以 sendfile 输出（Range 请求由 Spring 按区间输出），
+ * 请求次数较多的小图片保存在内存热点集中，不再访问磁盘
+ */
+@Component
+public class AvatarStore {
+
+    public static final Path AVATAR_DIR = Paths.get("uploads", "avatars");
+
+    // UUID + 扩展名，拒绝路径分隔符和 ..
+    private static final Pattern FILENAME = Pattern.compile("[A-Za-z0-9_-]{1,64}(\\.[A-Za-z0-9]{1,8})?");
+
+    // 请求计数表的上限，超过后清空重新计数
+    private static final int MAX_TRACKED = 10_000;
+
+    private final Path directory = AVATAR_DIR.toAbsolutePath().normalize();
+    private final BoundedCache<String, Avatar> hotSet;
+    private final long ttlMillis;
+    private final int maxFileBytes;
+    private final int minHits;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    private final AtomicLong hotHits = new AtomicLong();
+    private final AtomicLong diskReads = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public AvatarStore(@Value("${vocabulary.avatars.hot-set.max-weight-bytes:4194304}") long maxWeightBytes,
+                       @Value("${vocabulary.avatars.hot-set.max-file-bytes:65536}") int maxFileBytes,
+                       @Value("${vocabulary.avatars.hot-set.min-hits:3}") int minHits,
+                       @Value("${vocabulary.avatars.hot-set.ttl-minutes:60}") long ttlMinutes) {
+        this.hotSet = new BoundedCache<>("avatars", maxWeightBytes, Avatar::weight);
+        this.maxFileBytes = maxFileBytes;
+        this.minHits = minHits;
+        this.ttlMillis = ttlMinutes * 60_000;
+    }
+
+    /**
+     * @return 文件名不合法或文件不存在时返回空
+     */
+    public Optional<Avatar> open(String filename) throws IOException {
+        if (filename == null || !FILENAME.matcher(filename).matches()) {
+            rejected.incrementAndGet();
+            return Optional.empty();
+        }
+        Avatar hot = hotSet.get(filename);
+        if (hot != null) {
+            hotHits.incrementAndGet();
+            return Optional.of(hot);
+        }
+
+        Path path = directory.resolve(filename).normalize();
+        if (!path.startsWith(directory)) {
+            rejected.incrementAndGet();
+            return Optional.empty();
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+        diskReads.incrementAndGet();
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        if (size <= maxFileBytes && isHot(filename)) {
+            Avatar avatar = new Avatar(new ByteArrayResource(Files.readAllBytes(path)), null, filename, size, lastModified);
+            hotSet.put(filename, avatar, ttlMillis);
+            return Optional.of(avatar);
+        }
+        return Optional.of(new Avatar(new FileSystemResource(path), path, filename, size, lastModified));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = hotSet.stats();
+        stats.put("hotHits", hotHits.get());
+        stats.put("diskReads", diskReads.get());
+        stats.put("rejectedFilenames", rejected.get());
+        return stats;
+    }
+
+    /**
+     * 只把多次请求的头像放入热点集，避免只访问一次的头像挤掉常用头像
+     */
+    private boolean isHot(String filename) {
+        if (hits.size() > MAX_TRACKED) {
+            hits.clear();
+        }
+        int count = hits.computeIfAbsent(filename, key -> new AtomicInteger()).incrementAndGet();
+        if (count >= minHits) {
+            hits.remove(filename);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 上传时按内容类型确定扩展名，不使用客户端提供的文件名
+     */
+    public static String extensionFor(String contentType) {
+        switch (contentType) {
+            case "image/png":
+                return ".png";
+            case "image/gif":
+                return ".gif";
+            default:
+                return ".jpg";
+        }
+    }
+
+    public static class Avatar {
+        private final Resource resource;
+        private final Path path;
+        private final String contentType;
+        private final long size;
+        private final long lastModified;
+        private final String etag;
+
+        Avatar(Resource resource, Path path, String filename, long size, long lastModified) {
+            this.resource = resource;
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(size) + "\"";
+
+            String lower = filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".png")) {
+                this.contentType = "image/png";
+            } else if (lower.endsWith(".gif")) {
+                this.contentType = "image/gif";
+            } else {
+                this.contentType = "image/jpeg"; // 默认类型
+            }
+        }
+
+        public Resource getResource() {
+            return resource;
+        }
+
+        /**
+         * @return 磁盘文件的绝对路径；热点集中的头像返回 null
+         */
+        public Path getPath() {
+            return path;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        long weight() {
+            return size + 128;
+        }
+    }
+}
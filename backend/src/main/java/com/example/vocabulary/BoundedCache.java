@@ -0,0 +1,183 @@
+package com.example.vocabulary;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 按权重限制容量的 LRU 缓存，每个条目带独立的过期时间
+ * 所有操作在同一把锁内完成，适合读多写少、条目数不大的场景
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+
+    // accessOrder = true：迭代顺序即最近最少使用顺序
+    private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private long hits;
+    private long staleHits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public BoundedCache(String name, long maxWeight, ToLongFunction<V> weigher) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * 读取未过期的值；不存在或已过期时返回 null
+     */
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            removeEntry(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * 读取条目；已过期但仍在 staleMillis 宽限期内时也返回，并标记为 stale，
+     * 调用方可先返回旧值再在后台刷新（stale-while-revalidate）
+     */
+    public synchronized Lookup<V> lookup(K key, long staleMillis) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (!entry.isExpired(now)) {
+            hits++;
+            return new Lookup<>(entry.value, false);
+        }
+        if (now < entry.expiresAt + staleMillis) {
+            staleHits++;
+            return new Lookup<>(entry.value, true);
+        }
+        removeEntry(key);
+        expirations++;
+        misses++;
+        return null;
+    }
+
+    /**
+     * 是否存在未过期的条目；不计入命中统计
+     */
+    public synchronized boolean containsFresh(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 写入并按需淘汰最久未使用的条目；单个值超过总容量时不缓存
+     */
+    public synchronized void put(K key, V value, long ttlMillis) {
+        long weight = Math.max(1, weigher.applyAsLong(value));
+        if (weight > maxWeight) {
+            removeEntry(key);
+            return;
+        }
+
+        CacheEntry<V> previous = entries.put(key, new CacheEntry<>(value, weight, System.currentTimeMillis() + ttlMillis));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Map.Entry<K, CacheEntry<V>> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        removeEntry(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("name", name);
+        stats.put("size", entries.size());
+        stats.put("weight", totalWeight);
+        stats.put("maxWeight", maxWeight);
+        stats.put("hits", hits);
+        stats.put("staleHits", staleHits);
+        stats.put("misses", misses);
+        stats.put("evictions", evictions);
+        stats.put("expirations", expirations);
+        long lookups = hits + staleHits + misses;
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) (hits + staleHits) / lookups);
+        return stats;
+    }
+
+    private void removeEntry(K key) {
+        CacheEntry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    /**
+     * lookup 的结果：缓存值以及是否已过期（处于宽限期）
+     */
+    public static class Lookup<V> {
+        private final V value;
+        private final boolean stale;
+
+        Lookup(V value, boolean stale) {
+            this.value = value;
+            this.stale = stale;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public boolean isStale() {
+            return stale;
+        }
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+
+        CacheEntry(V value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.vocabulary;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 在线词典查询结果的持久化副本（exampleCount = 0 表示“查过但没有例句”）
+ */
+@Entity
+@Table(name = "example_cache", indexes = {
+        @Index(name = "idx_example_cache_fetched_at", columnList = "fetched_at")
+})
+public class CachedExample {
+
+    @Id
+    @Column(length = 100)
+    private String word; // 规范化后的单词
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String examplesJson;
+
+    @Column(nullable = false)
+    private Integer exampleCount = 0;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    public CachedExample() {
+    }
+
+    public CachedExample(String word, String examplesJson, Integer exampleCount, LocalDateTime fetchedAt) {
+        this.word = word;
+        this.examplesJson = examplesJson;
+        this.exampleCount = exampleCount;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    public String getExamplesJson() {
+        return examplesJson;
+    }
+
+    public void setExamplesJson(String examplesJson) {
+        this.examplesJson = examplesJson;
+    }
+
+    public Integer getExampleCount() {
+        return exampleCount;
+    }
+
+    public void setExampleCount(Integer exampleCount) {
+        this.exampleCount = exampleCount;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public void setFetchedAt(LocalDateTime fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.vocabulary;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CachedExampleRepository extends JpaRepository<CachedExample, String> {
+
+    // 启动预热：按抓取时间从新到旧分页读取
+    List<CachedExample> findByFetchedAtAfterOrderByFetchedAtDesc(LocalDateTime since, Pageable pageable);
+
+    // 取第 N 新的抓取时间，作为容量裁剪的分界点
+    @Query("select c.fetchedAt from CachedExample c order by c.fetchedAt desc")
+    List<LocalDateTime> findFetchedAtDesc(Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from CachedExample c where c.fetchedAt < :cutoff")
+    int deleteFetchedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
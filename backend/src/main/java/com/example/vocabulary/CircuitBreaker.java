@@ -0,0 +1,131 @@
+package com.example.vocabulary;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 简单的熔断器：连续失败达到阈值后打开，冷却期内直接拒绝；
+ * 冷却结束进入半开状态放行一个探测请求，成功则关闭，失败则重新打开
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private long successes;
+    private long failures;
+    private long rejected;
+    private long openTransitions;
+    private long halfOpenTransitions;
+    private long closeTransitions;
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMillis) {
+        this(name, failureThreshold, openDurationMillis, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openDurationMillis, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 是否允许发起请求；返回 true 时调用方必须随后调用 onSuccess 或 onFailure
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (!isCoolDownOver()) {
+                rejected++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenTransitions++;
+            System.out.println("🟡 熔断器 " + name + " 进入半开状态");
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejected++;
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        successes++;
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            state = State.CLOSED;
+            closeTransitions++;
+            System.out.println("🟢 熔断器 " + name + " 已恢复");
+        }
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            probeInFlight = false;
+            if (state != State.OPEN) {
+                openTransitions++;
+                System.err.println("🔴 熔断器 " + name + " 已打开，连续失败 " + consecutiveFailures + " 次");
+            }
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    /**
+     * 请求被主动取消（如对冲请求中落败的一方）：不计成功也不计失败，只释放半开探测名额
+     */
+    public synchronized void onCancelled() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 当前状态；冷却期已过但还没有请求经过 tryAcquire 时也报告为半开，
+     * 只读取状态的调用方（如后台预取、全部熔断判断）不会一直看到 OPEN
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && isCoolDownOver()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private boolean isCoolDownOver() {
+        return clock.getAsLong() - openedAt >= openDurationMillis;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("name", name);
+        stats.put("state", getState().name());
+        stats.put("consecutiveFailures", consecutiveFailures);
+        stats.put("successes", successes);
+        stats.put("failures", failures);
+        stats.put("rejected", rejected);
+        stats.put("openTransitions", openTransitions);
+        stats.put("halfOpenTransitions", halfOpenTransitions);
+        stats.put("closeTransitions", closeTransitions);
+        return stats;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.vocabulary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 在线例句来源（外部词典API）
+ */
+public interface DictionaryProvider {
+
+    /**
+     * 在 vocabulary.examples.online.providers 中使用的名称
+     */
+    String getName();
+
+    /**
+     * 查询单词的例句（english / chinese）
+     * @param word 已提取的纯英文单词
+     * @return 词典中没有该单词时返回空列表；网络或上游错误时抛出异常
+     */
+    List<Map<String, String>> fetchExamples(String word) throws Exception;
+}
@@ -0,0 +1,204 @@
+package com.example.vocabulary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 内存映射的只读例句语料（由 ExampleCorpusBuilder 从 TSV 生成），查询时才解码对应单词的例句
+ *
+ * 文件格式（大端序）：
+ * <pre>
+ * 头部   magic(int "VEXC") version(short) reserved(short) keyCount(int) sentenceCount(int)
+ *        indexOffset(int) keyDataOffset(int) recordDataOffset(int)
+ * 索引   keyCount 个定长条目，按 key 的 UTF-8 字节序排序：
+ *        keyOffset(int) keyLength(short) sentenceCount(short) recordOffset(int)
+ * 键区   所有 key 的 UTF-8 字节依次拼接
+ * 记录区 每个例句为 englishLength(short) english(UTF-8) chineseLength(short) chinese(UTF-8)
+ * </pre>
+ * 偏移量均相对于所在区域起点，单个文件最大 2GB
+ */
+public class ExampleCorpus {
+
+    public static final int MAGIC = 0x56455843; // "VEXC"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 28;
+    public static final int INDEX_ENTRY_SIZE = 12;
+
+    private static final ExampleCorpus EMPTY = new ExampleCorpus();
+
+    private final ByteBuffer buffer;
+    private final int keyCount;
+    private final int sentenceCount;
+    private final int indexOffset;
+    private final int keyDataOffset;
+    private final int recordDataOffset;
+
+    private ExampleCorpus() {
+        this.buffer = ByteBuffer.allocate(0);
+        this.keyCount = 0;
+        this.sentenceCount = 0;
+        this.indexOffset = 0;
+        this.keyDataOffset = 0;
+        this.recordDataOffset = 0;
+    }
+
+    private ExampleCorpus(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("不是例句语料文件");
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("不支持的例句语料版本: " + version);
+        }
+        this.keyCount = buffer.getInt(8);
+        this.sentenceCount = buffer.getInt(12);
+        this.indexOffset = buffer.getInt(16);
+        this.keyDataOffset = buffer.getInt(20);
+        this.recordDataOffset = buffer.getInt(24);
+    }
+
+    /**
+     * 只读映射语料文件；映射后关闭文件通道，数据按需由操作系统换入
+     */
+    public static ExampleCorpus open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ExampleCorpus(mapped);
+        }
+    }
+
+    public static ExampleCorpus empty() {
+        return EMPTY;
+    }
+
+    public int keyCount() {
+        return keyCount;
+    }
+
+    public int sentenceCount() {
+        return sentenceCount;
+    }
+
+    public boolean contains(String key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * @param key 已规范化（小写）的单词
+     * @return 解码后的例句；没有时返回空列表
+     */
+    public List<Map<String, String>> lookup(String key) {
+        int entry = find(key);
+        if (entry < 0) {
+            return new ArrayList<>();
+        }
+        int base = indexOffset + entry * INDEX_ENTRY_SIZE;
+        int count = Short.toUnsignedInt(buffer.getShort(base + 6));
+        int position = recordDataOffset + buffer.getInt(base + 8);
+
+        List<Map<String, String>> examples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int englishLength = Short.toUnsignedInt(buffer.getShort(position));
+            String english = decode(position + 2, englishLength);
+            position += 2 + englishLength;
+            int chineseLength = Short.toUnsignedInt(buffer.getShort(position));
+            String chinese = decode(position + 2, chineseLength);
+            position += 2 + chineseLength;
+
+            Map<String, String> example = new HashMap<>();
+            example.put("english", english);
+            example.put("chinese", chinese);
+            examples.add(example);
+        }
+        return examples;
+    }
+
+    /**
+     * 按文件顺序遍历所有例句，用于构建倒排索引
+     */
+    public void forEachSentence(SentenceVisitor visitor) {
+        int position = recordDataOffset;
+        for (int i = 0; i < sentenceCount; i++) {
+            int recordOffset = position - recordDataOffset;
+            int englishLength = Short.toUnsignedInt(buffer.getShort(position));
+            String english = decode(position + 2, englishLength);
+            position += 2 + englishLength;
+            position += 2 + Short.toUnsignedInt(buffer.getShort(position));
+            visitor.visit(recordOffset, english);
+        }
+    }
+
+    /**
+     * 解码记录区中指定偏移处的一条例句
+     */
+    public Map<String, String> sentenceAt(int recordOffset) {
+        int position = recordDataOffset + recordOffset;
+        int englishLength = Short.toUnsignedInt(buffer.getShort(position));
+        String english = decode(position + 2, englishLength);
+        position += 2 + englishLength;
+        String chinese = decode(position + 2, Short.toUnsignedInt(buffer.getShort(position)));
+
+        Map<String, String> example = new HashMap<>();
+        example.put("english", english);
+        example.put("chinese", chinese);
+        return example;
+    }
+
+    @FunctionalInterface
+    public interface SentenceVisitor {
+        void visit(int recordOffset, String english);
+    }
+
+    /**
+     * 在排序索引上二分查找，直接比较映射区中的字节
+     * @return 索引条目下标，未找到返回 -1
+     */
+    private int find(String key) {
+        byte[] target = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKey(mid, target);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareKey(int entry, byte[] target) {
+        int base = indexOffset + entry * INDEX_ENTRY_SIZE;
+        int offset = keyDataOffset + buffer.getInt(base);
+        int length = Short.toUnsignedInt(buffer.getShort(base + 4));
+        int common = Math.min(length, target.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(offset + i), target[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, target.length);
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
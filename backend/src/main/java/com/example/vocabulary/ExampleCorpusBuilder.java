@@ -0,0 +1,139 @@
+package com.example.vocabulary;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 构建工具：把 TSV 例句源文件转换为 ExampleCorpus 的二进制格式
+ *
+ * TSV 每行为 单词&lt;TAB&gt;英文例句&lt;TAB&gt;中文翻译，# 开头的行和空行忽略；同一单词的例句按出现顺序保存。
+ * 只依赖 JDK，可直接用 javac 编译运行：
+ * <pre>
+ * javac -d /tmp/corpus ExampleCorpus.java ExampleCorpusBuilder.java
+ * java -cp /tmp/corpus com.example.vocabulary.ExampleCorpusBuilder corpus/en.tsv src/main/resources/examples/en.bin
+ * </pre>
+ */
+public class ExampleCorpusBuilder {
+
+    private static final int MAX_FIELD_BYTES = 0xFFFF;
+    private static final int MAX_SENTENCES_PER_KEY = 0xFFFF;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("用法: ExampleCorpusBuilder <input.tsv>... <output.bin>");
+            System.exit(1);
+        }
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length - 1; i++) {
+            inputs.add(Paths.get(args[i]));
+        }
+        Path output = Paths.get(args[args.length - 1]);
+
+        Map<byte[], List<byte[][]>> entries = read(inputs);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            int sentences = write(entries, out);
+            System.out.println("✅ 已生成 " + output + ": " + entries.size() + " 个单词, " + sentences + " 条例句");
+        }
+    }
+
+    /**
+     * 读取 TSV，按 key 的 UTF-8 字节序分组（与 ExampleCorpus 二分查找的比较方式一致）
+     */
+    static Map<byte[], List<byte[][]>> read(List<Path> inputs) throws IOException {
+        Map<byte[], List<byte[][]>> entries = new TreeMap<>(Arrays::compareUnsigned);
+        for (Path input : inputs) {
+            try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] fields = line.split("\t", -1);
+                    if (fields.length != 3 || fields[0].isBlank()) {
+                        throw new IOException(input + ":" + lineNumber + " 应为 单词<TAB>英文<TAB>中文");
+                    }
+                    byte[] key = field(fields[0].trim().toLowerCase(), input, lineNumber);
+                    byte[][] sentence = {field(fields[1], input, lineNumber), field(fields[2], input, lineNumber)};
+                    List<byte[][]> sentences = entries.computeIfAbsent(key, k -> new ArrayList<>());
+                    if (sentences.size() >= MAX_SENTENCES_PER_KEY) {
+                        throw new IOException(input + ":" + lineNumber + " 单个单词的例句过多");
+                    }
+                    sentences.add(sentence);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @return 写入的例句总数
+     */
+    static int write(Map<byte[], List<byte[][]>> entries, OutputStream target) throws IOException {
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        ByteArrayOutputStream keys = new ByteArrayOutputStream();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(index);
+        DataOutputStream recordOut = new DataOutputStream(records);
+
+        int sentenceCount = 0;
+        for (Map.Entry<byte[], List<byte[][]>> entry : entries.entrySet()) {
+            indexOut.writeInt(keys.size());
+            indexOut.writeShort(entry.getKey().length);
+            indexOut.writeShort(entry.getValue().size());
+            indexOut.writeInt(recordOut.size());
+            keys.write(entry.getKey());
+            for (byte[][] sentence : entry.getValue()) {
+                recordOut.writeShort(sentence[0].length);
+                recordOut.write(sentence[0]);
+                recordOut.writeShort(sentence[1].length);
+                recordOut.write(sentence[1]);
+                sentenceCount++;
+            }
+        }
+
+        long total = (long) ExampleCorpus.HEADER_SIZE + index.size() + keys.size() + records.size();
+        if (total > Integer.MAX_VALUE) {
+            throw new IOException("语料过大，请按语言或字母拆分为多个文件");
+        }
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(ExampleCorpus.MAGIC);
+        out.writeShort(ExampleCorpus.VERSION);
+        out.writeShort(0);
+        out.writeInt(entries.size());
+        out.writeInt(sentenceCount);
+        out.writeInt(ExampleCorpus.HEADER_SIZE);
+        out.writeInt(ExampleCorpus.HEADER_SIZE + index.size());
+        out.writeInt(ExampleCorpus.HEADER_SIZE + index.size() + keys.size());
+        index.writeTo(out);
+        keys.writeTo(out);
+        records.writeTo(out);
+        out.flush();
+        return sentenceCount;
+    }
+
+    private static byte[] field(String value, Path input, int lineNumber) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_FIELD_BYTES) {
+            throw new IOException(input + ":" + lineNumber + " 字段超过 " + MAX_FIELD_BYTES + " 字节");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.vocabulary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 例句倒排索引：词元（lemma）-> 包含该词任一词形的例句编号。
+ * 倒排表按例句编号升序，以差值 + 变长整数（varint）压缩保存
+ */
+public class ExampleIndex {
+
+    private static final Pattern TOKEN = Pattern.compile("[a-z]+");
+
+    private final ExampleCorpus corpus;
+
+    // 例句编号 -> 记录区偏移
+    private final int[] sentenceOffsets;
+
+    // 词元 -> 压缩后的倒排表
+    private final Map<String, byte[]> postings;
+
+    // 出现过的所有词形，作为词形还原时的已知词表
+    private final Map<String, String> lemmaByToken;
+
+    private final long postingBytes;
+    private final long buildMillis;
+
+    private ExampleIndex(ExampleCorpus corpus, int[] sentenceOffsets, Map<String, byte[]> postings,
+                         Map<String, String> lemmaByToken, long postingBytes, long buildMillis) {
+        this.corpus = corpus;
+        this.sentenceOffsets = sentenceOffsets;
+        this.postings = postings;
+        this.lemmaByToken = lemmaByToken;
+        this.postingBytes = postingBytes;
+        this.buildMillis = buildMillis;
+    }
+
+    /**
+     * 遍历语料一次，先按词形建倒排表，再合并为按词元的倒排表
+     */
+    public static ExampleIndex build(ExampleCorpus corpus) {
+        long start = System.currentTimeMillis();
+        int[] sentenceOffsets = new int[corpus.sentenceCount()];
+        Map<String, IntList> byToken = new HashMap<>();
+        int[] nextId = {0};
+
+        corpus.forEachSentence((recordOffset, english) -> {
+            int id = nextId[0]++;
+            sentenceOffsets[id] = recordOffset;
+            Matcher matcher = TOKEN.matcher(english.toLowerCase());
+            while (matcher.find()) {
+                byToken.computeIfAbsent(matcher.group(), token -> new IntList()).addUnique(id);
+            }
+        });
+
+        Map<String, String> lemmaByToken = new HashMap<>(byToken.size() * 2);
+        Map<String, List<IntList>> byLemma = new HashMap<>();
+        for (Map.Entry<String, IntList> entry : byToken.entrySet()) {
+            String lemma = Lemmatizer.lemma(entry.getKey(), byToken::containsKey);
+            lemmaByToken.put(entry.getKey(), lemma);
+            byLemma.computeIfAbsent(lemma, key -> new ArrayList<>()).add(entry.getValue());
+        }
+
+        Map<String, byte[]> postings = new HashMap<>(byLemma.size() * 2);
+        long postingBytes = 0;
+        for (Map.Entry<String, List<IntList>> entry : byLemma.entrySet()) {
+            byte[] encoded = encode(merge(entry.getValue()));
+            postings.put(entry.getKey(), encoded);
+            postingBytes += encoded.length;
+        }
+        return new ExampleIndex(corpus, sentenceOffsets, postings, lemmaByToken, postingBytes,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 把查询词还原为索引中的词元：语料中出现过的词形直接查表，否则按规则还原；
+     * 只接受本身是索引词元的候选（语料中任意出现过的词不算，否则 cared 会命中 car），否则返回原词
+     */
+    public String lemma(String token) {
+        String known = lemmaByToken.get(token);
+        if (known != null) {
+            return known;
+        }
+        String candidate = Lemmatizer.lemma(token, postings::containsKey);
+        return postings.containsKey(candidate) ? candidate : token;
+    }
+
+    public boolean contains(String token) {
+        return postings.containsKey(lemma(token));
+    }
+
+    /**
+     * @param token 小写的英文单词（任意词形）
+     * @param limit 最多返回的例句数
+     */
+    public List<Map<String, String>> search(String token, int limit) {
+        byte[] encoded = postings.get(lemma(token));
+        List<Map<String, String>> examples = new ArrayList<>();
+        if (encoded == null) {
+            return examples;
+        }
+        int id = 0;
+        int position = 0;
+        while (position < encoded.length && examples.size() < limit) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            id += delta;
+            examples.add(corpus.sentenceAt(sentenceOffsets[id]));
+        }
+        return examples;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sentences", sentenceOffsets.length);
+        stats.put("tokens", lemmaByToken.size());
+        stats.put("lemmas", postings.size());
+        stats.put("postingBytes", postingBytes);
+        stats.put("buildMillis", buildMillis);
+        return stats;
+    }
+
+    /**
+     * 合并同一词元下各词形的倒排表（各自已升序）
+     */
+    private static int[] merge(List<IntList> lists) {
+        if (lists.size() == 1) {
+            return lists.get(0).toArray();
+        }
+        int total = 0;
+        for (IntList list : lists) {
+            total += list.size;
+        }
+        int[] merged = new int[total];
+        int length = 0;
+        for (IntList list : lists) {
+            System.arraycopy(list.values, 0, merged, length, list.size);
+            length += list.size;
+        }
+        Arrays.sort(merged);
+        int unique = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (i == 0 || merged[i] != merged[i - 1]) {
+                merged[unique++] = merged[i];
+            }
+        }
+        return Arrays.copyOf(merged, unique);
+    }
+
+    private static byte[] encode(int[] ids) {
+        byte[] out = new byte[ids.length * 5];
+        int length = 0;
+        int previous = 0;
+        for (int id : ids) {
+            int delta = id - previous;
+            previous = id;
+            while ((delta & ~0x7F) != 0) {
+                out[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            out[length++] = (byte) delta;
+        }
+        return Arrays.copyOf(out, length);
+    }
+
+    /**
+     * 构建期间使用的可增长 int 数组
+     */
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void addUnique(int value) {
+            // 例句按编号顺序处理，同一句中重复出现的词只记一次
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.vocabulary;
+
+import java.text.Normalizer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 例句语料的语言分区，以及各语言的单词规范化规则（正则预编译）
+ */
+public enum ExampleLanguage {
+
+    EN("en", Pattern.compile("^([a-zA-Z]+)"), false),
+    // 平假名、片假名、汉字及长音符号
+    JA("ja", Pattern.compile("^([\\p{IsHiragana}\\p{IsKatakana}\\p{IsHan}ー々]+)"), true),
+    KO("ko", Pattern.compile("^([\\p{IsHangul}]+)"), true);
+
+    private final String code;
+    private final Pattern leadingWord;
+    // 全角/半角等兼容字符统一为 NFKC 形式（如半角片假名）
+    private final boolean nfkc;
+
+    ExampleLanguage(String code, Pattern leadingWord, boolean nfkc) {
+        this.code = code;
+        this.leadingWord = leadingWord;
+        this.nfkc = nfkc;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 语料文件名，如 en.bin
+     */
+    public String getCorpusFileName() {
+        return code + ".bin";
+    }
+
+    /**
+     * 提取单词开头的词（去掉音标、释义等），规范化为查询 key
+     */
+    public String normalize(String wordText) {
+        String text = wordText.trim();
+        if (nfkc) {
+            text = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        }
+        Matcher matcher = leadingWord.matcher(text);
+        String word = matcher.find() ? matcher.group(1) : text;
+        return this == EN ? word.toLowerCase() : word;
+    }
+
+    /**
+     * 按第一个字母所属的文字判断语言，无法判断时按英语处理
+     */
+    public static ExampleLanguage detect(String wordText) {
+        for (int i = 0; i < wordText.length(); ) {
+            int codePoint = wordText.codePointAt(i);
+            if (Character.isLetter(codePoint)) {
+                Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+                if (script == Character.UnicodeScript.HANGUL) {
+                    return KO;
+                }
+                if (script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA
+                        || script == Character.UnicodeScript.HAN) {
+                    return JA;
+                }
+                return EN;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return EN;
+    }
+}
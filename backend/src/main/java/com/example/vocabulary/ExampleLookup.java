@@ -0,0 +1,20 @@
+package com.example.vocabulary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单一语言的本地例句查询
+ */
+public interface ExampleLookup {
+
+    /**
+     * @param key 已按该语言规范化的单词
+     * @return 例句列表（english / chinese）；没有时返回空列表
+     */
+    List<Map<String, String>> lookup(String key);
+
+    boolean contains(String key);
+
+    Map<String, Object> stats();
+}
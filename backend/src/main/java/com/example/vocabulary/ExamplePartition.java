@@ -0,0 +1,118 @@
+package com.example.vocabulary;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一种语言的例句分区：内存映射的语料，英语额外有后台构建的倒排索引
+ */
+public class ExamplePartition implements ExampleLookup {
+
+    private static final int MAX_INDEX_RESULTS = 5;
+
+    private final ExampleLanguage language;
+    private final ExampleCorpus corpus;
+    private final long loadedAt = System.currentTimeMillis();
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    // 倒排索引在后台构建，完成前只做精确查找
+    private volatile ExampleIndex index;
+
+    private final AtomicLong exactHits = new AtomicLong();
+    private final AtomicLong lemmaHits = new AtomicLong();
+    private final AtomicLong indexHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ExamplePartition(ExampleLanguage language, ExampleCorpus corpus) {
+        this.language = language;
+        this.corpus = corpus;
+    }
+
+    /**
+     * 在后台线程中构建倒排索引（目前只有英语有词形还原规则）
+     */
+    public void buildIndexInBackground() {
+        if (language != ExampleLanguage.EN) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                index = ExampleIndex.build(corpus);
+                System.out.println("🔎 " + language.getCode() + " 例句倒排索引构建完成: " + index.stats());
+            } catch (Exception e) {
+                System.err.println("⚠️ " + language.getCode() + " 例句倒排索引构建失败: " + e.getMessage());
+            }
+        }, "example-index-build-" + language.getCode());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public List<Map<String, String>> lookup(String key) {
+        lastAccess = System.currentTimeMillis();
+
+        // 1. 精确匹配词条，按需从映射区解码
+        List<Map<String, String>> examples = corpus.lookup(key);
+        if (!examples.isEmpty()) {
+            exactHits.incrementAndGet();
+            return examples;
+        }
+
+        ExampleIndex current = index;
+        if (current != null) {
+            // 2. 变形词还原为原形后匹配词条（abilities -> ability）
+            String lemma = current.lemma(key);
+            if (!lemma.equals(key)) {
+                examples = corpus.lookup(lemma);
+                if (!examples.isEmpty()) {
+                    lemmaHits.incrementAndGet();
+                    return examples;
+                }
+            }
+
+            // 3. 倒排索引：其他词条的例句中出现了该词的任一词形（took -> take）
+            examples = current.search(key, MAX_INDEX_RESULTS);
+            if (!examples.isEmpty()) {
+                indexHits.incrementAndGet();
+                return examples;
+            }
+        }
+
+        misses.incrementAndGet();
+        return examples;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        lastAccess = System.currentTimeMillis();
+        if (corpus.contains(key)) {
+            return true;
+        }
+        ExampleIndex current = index;
+        return current != null && current.contains(key);
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("words", corpus.keyCount());
+        stats.put("sentences", corpus.sentenceCount());
+        stats.put("loadedAt", loadedAt);
+        stats.put("lastAccess", lastAccess);
+        stats.put("exactHits", exactHits.get());
+        stats.put("lemmaHits", lemmaHits.get());
+        stats.put("indexHits", indexHits.get());
+        stats.put("misses", misses.get());
+        if (language == ExampleLanguage.EN) {
+            ExampleIndex current = index;
+            stats.put("index", current != null ? current.stats() : "building");
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.vocabulary;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 新增单词后在后台预取在线例句，写入例句缓存，翻卡片时不再等待网络
+ */
+@Service
+public class ExamplePrefetchService {
+
+    // 上游熔断时的退避等待时间范围
+    private static final long MIN_BACKOFF_MILLIS = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    @Autowired
+    private OnlineExampleService onlineExampleService;
+
+    @Autowired
+    private ExampleSentenceService localExampleService;
+
+    private final BlockingQueue<String> queue;
+
+    // 已排队的单词（规范化后） -> 入队时间，用于去重和计算延迟
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    // 两次在线请求之间的最小间隔，限制对外部API的请求速率
+    private final long minIntervalMillis;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong requeued = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    private final AtomicLong totalLagMillis = new AtomicLong();
+
+    private volatile boolean running = true;
+    private long backoffMillis = MIN_BACKOFF_MILLIS;
+    private Thread worker;
+
+    public ExamplePrefetchService(
+            @Value("${vocabulary.examples.prefetch.queue-capacity:10000}") int queueCapacity,
+            @Value("${vocabulary.examples.prefetch.rate-per-second:5}") double ratePerSecond) {
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.minIntervalMillis = (long) (1000 / ratePerSecond);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "example-prefetch");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 新增单词的事务提交后再入队，回滚的导入不会触发外部API请求
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWordsAdded(WordsAddedEvent event) {
+        enqueue(event.getWords());
+    }
+
+    /**
+     * 将新增单词加入预取队列；本地已有例句、缓存已命中或已在队列中的单词会被跳过
+     */
+    public void enqueue(Collection<String> words) {
+        for (String word : words) {
+            if (word == null || word.trim().isEmpty()) {
+                continue;
+            }
+            String key = onlineExampleService.normalizeKey(word);
+            // 在线词典只支持英语
+            if (ExampleLanguage.detect(word) != ExampleLanguage.EN
+                    || localExampleService.hasExamples(word) || onlineExampleService.isCached(key)) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            if (pending.putIfAbsent(key, System.currentTimeMillis()) != null) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            if (!queue.offer(key)) {
+                // 队列已满时丢弃，用户翻卡片时仍会按需查询
+                pending.remove(key);
+                dropped.incrementAndGet();
+                continue;
+            }
+            enqueued.incrementAndGet();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                String key = queue.take();
+                Long enqueuedAt = pending.get(key);
+
+                // 上游熔断期间把单词放回队尾并退避等待，不消耗队列中的单词；
+                // 熔断冷却结束后（半开）由下一次请求通过 tryAcquire 探测上游
+                if (onlineExampleService.isCircuitOpen()) {
+                    if (queue.offer(key)) {
+                        requeued.incrementAndGet();
+                    } else {
+                        pending.remove(key);
+                        dropped.incrementAndGet();
+                    }
+                    Thread.sleep(backoffMillis);
+                    backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+                    continue;
+                }
+                backoffMillis = MIN_BACKOFF_MILLIS;
+
+                try {
+                    if (!onlineExampleService.isCached(key)) {
+                        onlineExampleService.getExamples(key);
+                        Thread.sleep(minIntervalMillis);
+                    }
+                } finally {
+                    pending.remove(key);
+                }
+
+                processed.incrementAndGet();
+                if (enqueuedAt != null) {
+                    long lag = System.currentTimeMillis() - enqueuedAt;
+                    lastLagMillis.set(lag);
+                    totalLagMillis.addAndGet(lag);
+                    maxLagMillis.accumulateAndGet(lag, Math::max);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("⚠️ 预取例句失败: " + e.getMessage());
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        long processedCount = processed.get();
+        stats.put("queueDepth", queue.size());
+        stats.put("enqueued", enqueued.get());
+        stats.put("skipped", skipped.get());
+        stats.put("dropped", dropped.get());
+        stats.put("requeued", requeued.get());
+        stats.put("processed", processedCount);
+        stats.put("lastLagMillis", lastLagMillis.get());
+        stats.put("maxLagMillis", maxLagMillis.get());
+        stats.put("avgLagMillis", processedCount == 0 ? 0 : totalLagMillis.get() / processedCount);
+        return stats;
+    }
+}
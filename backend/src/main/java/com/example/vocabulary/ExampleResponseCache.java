@@ -0,0 +1,145 @@
+package com.example.vocabulary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 本地例句的 /api/examples 响应体缓存：本地语料运行时不变，每个单词只序列化一次，
+ * 之后直接写出缓存的 UTF-8（及 gzip）字节
+ */
+@Component
+public class ExampleResponseCache {
+
+    // 小于该大小的响应压缩收益不明显，只保存未压缩版本
+    private static final int MIN_GZIP_BYTES = 512;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BoundedCache<String, EncodedResponse> cache;
+    private final long ttlMillis;
+    private final boolean gzipEnabled;
+
+    private final AtomicLong encodeFailures = new AtomicLong();
+
+    public ExampleResponseCache(@Value("${vocabulary.examples.response-cache.max-weight-bytes:8388608}") long maxWeightBytes,
+                                @Value("${vocabulary.examples.response-cache.ttl-seconds:86400}") long ttlSeconds,
+                                @Value("${vocabulary.examples.response-cache.gzip:true}") boolean gzipEnabled) {
+        this.cache = new BoundedCache<>("example-responses", maxWeightBytes, EncodedResponse::weight);
+        this.ttlMillis = ttlSeconds * 1000;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    /**
+     * 解析 Accept-Encoding：gzip（或 x-gzip）的 q 值大于 0 时接受；
+     * 未列出 gzip 时按 * 的 q 值判断。gzip;q=0 表示明确拒绝
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    /**
+     * @param word 请求中的原始单词（响应体中的 word 字段与之相同）
+     */
+    public EncodedResponse get(String word) {
+        return cache.get(word);
+    }
+
+    /**
+     * 序列化本地例句响应并缓存；序列化失败时返回 null，由调用方走普通路径
+     */
+    public EncodedResponse encodeAndCache(String word, List<Map<String, String>> examples) {
+        try {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("word", word);
+            body.put("examples", examples);
+            body.put("hasExamples", !examples.isEmpty());
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzipEnabled && json.length >= MIN_GZIP_BYTES ? gzip(json) : null;
+            EncodedResponse response = new EncodedResponse(json, gzip != null && gzip.length < json.length ? gzip : null);
+            cache.put(word, response, ttlMillis);
+            return response;
+        } catch (IOException e) {
+            encodeFailures.incrementAndGet();
+            System.err.println("⚠️ 序列化例句响应失败: " + word + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>(cache.stats());
+        stats.put("encodeFailures", encodeFailures.get());
+        return stats;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 预先编码好的响应体
+     */
+    public static class EncodedResponse {
+        private final byte[] json;
+        private final byte[] gzip;
+
+        EncodedResponse(byte[] json, byte[] gzip) {
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * @return gzip 压缩后的响应体；没有压缩版本时为 null
+         */
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        private long weight() {
+            return 64 + json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.vocabulary;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 在线例句的二级持久化存储（数据库表 example_cache），重启后无需重新请求外部API
+ */
+@Service
+public class ExampleStore {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int WARM_LOAD_PAGE_SIZE = 1000;
+    private static final TypeReference<List<Map<String, String>>> EXAMPLES_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private CachedExampleRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 最多保留的条目数，超过后按抓取时间删除最旧的
+    private final int maxEntries;
+
+    // 每写入多少次检查一次容量
+    private final int pruneInterval;
+
+    private final AtomicLong writes = new AtomicLong();
+
+    public ExampleStore(@Value("${vocabulary.examples.store.max-entries:200000}") int maxEntries,
+                        @Value("${vocabulary.examples.store.prune-interval:1000}") int pruneInterval) {
+        this.maxEntries = maxEntries;
+        this.pruneInterval = pruneInterval;
+    }
+
+    /**
+     * 读取持久化的例句；不存在或解析失败时为空
+     */
+    public Optional<StoredExamples> find(String key) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            return Optional.empty();
+        }
+        try {
+            return repository.findById(key).map(this::toStored);
+        } catch (Exception e) {
+            System.err.println("⚠️ 读取例句存储失败: " + key + " - " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 写入（覆盖）一个单词的查询结果，空列表同样写入
+     */
+    public void save(String key, List<Map<String, String>> examples) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            return;
+        }
+        try {
+            repository.save(new CachedExample(key, objectMapper.writeValueAsString(examples),
+                    examples.size(), LocalDateTime.now()));
+            if (writes.incrementAndGet() % pruneInterval == 0) {
+                prune();
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ 写入例句存储失败: " + key + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 从新到旧读取 since 之后抓取的条目，最多 limit 条，逐条交给 consumer
+     * @return 读取的条目数
+     */
+    public int loadRecent(LocalDateTime since, int limit, BiConsumer<String, StoredExamples> consumer) {
+        int loaded = 0;
+        int page = 0;
+        while (loaded < limit) {
+            List<CachedExample> rows = repository.findByFetchedAtAfterOrderByFetchedAtDesc(since,
+                    PageRequest.of(page++, WARM_LOAD_PAGE_SIZE));
+            for (CachedExample row : rows) {
+                if (loaded >= limit) {
+                    break;
+                }
+                StoredExamples stored = toStored(row);
+                if (stored != null) {
+                    consumer.accept(row.getWord(), stored);
+                }
+                loaded++;
+            }
+            if (rows.size() < WARM_LOAD_PAGE_SIZE) {
+                break;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 超过容量时删除最旧的条目
+     */
+    public void prune() {
+        List<LocalDateTime> boundary = repository.findFetchedAtDesc(PageRequest.of(maxEntries, 1));
+        if (!boundary.isEmpty()) {
+            int deleted = repository.deleteFetchedBefore(boundary.get(0));
+            System.out.println("🧹 例句存储超过 " + maxEntries + " 条，已删除 " + deleted + " 条旧记录");
+        }
+    }
+
+    private StoredExamples toStored(CachedExample row) {
+        try {
+            return new StoredExamples(objectMapper.readValue(row.getExamplesJson(), EXAMPLES_TYPE), row.getFetchedAt());
+        } catch (Exception e) {
+            // 无法解析的旧数据视为不存在，下次会被网络结果覆盖
+            return null;
+        }
+    }
+
+    /**
+     * 持久化的查询结果及抓取时间
+     */
+    public static class StoredExamples {
+        private final List<Map<String, String>> examples;
+        private final LocalDateTime fetchedAt;
+
+        public StoredExamples(List<Map<String, String>> examples, LocalDateTime fetchedAt) {
+            this.examples = examples;
+            this.fetchedAt = fetchedAt;
+        }
+
+        public List<Map<String, String>> getExamples() {
+            return examples;
+        }
+
+        public LocalDateTime getFetchedAt() {
+            return fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.vocabulary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Free Dictionary API: https://api.dictionaryapi.dev/
+ */
+@Component
+public class FreeDictionaryProvider implements DictionaryProvider {
+
+    private static final int MAX_EXAMPLES = 5;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${vocabulary.examples.online.base-url:https://api.dictionaryapi.dev/api/v2/entries/en/}")
+    private String baseUrl;
+
+    @Override
+    public String getName() {
+        return "free-dictionary";
+    }
+
+    @Override
+    public List<Map<String, String>> fetchExamples(String word) throws Exception {
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.getForEntity(baseUrl + word, String.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            // 词典中没有这个单词：正常结果，会写入负缓存且不计为上游故障
+            return new ArrayList<>();
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new RuntimeException("API调用失败");
+        }
+
+        JsonNode root = objectMapper.readTree(response.getBody());
+
+        if (!root.isArray() || root.size() == 0) {
+            return new ArrayList<>();
+        }
+
+        List<Map<String, String>> examples = new ArrayList<>();
+
+        // 解析返回的JSON
+        JsonNode meanings = root.get(0).get("meanings");
+        if (meanings != null && meanings.isArray()) {
+            for (JsonNode meaning : meanings) {
+                JsonNode definitions = meaning.get("definitions");
+                if (definitions != null && definitions.isArray()) {
+                    for (JsonNode def : definitions) {
+                        // 提取例句
+                        JsonNode exampleNode = def.get("example");
+                        if (exampleNode != null && !exampleNode.isNull()) {
+                            String english = exampleNode.asText();
+
+                            // 添加中文翻译（简单的占位符或自动翻译）
+                            Map<String, String> exampleMap = new HashMap<>();
+                            exampleMap.put("english", english);
+                            exampleMap.put("chinese", "[需要翻译] " + english); // 可以集成其他翻译API
+
+                            examples.add(exampleMap);
+
+                            // 最多返回5条
+                            if (examples.size() >= MAX_EXAMPLES) {
+                                break;
+                            }
+                        }
+                    }
+                    if (examples.size() >= MAX_EXAMPLES) break;
+                }
+            }
+        }
+        return examples;
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.vocabulary;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 多词典来源的对冲请求：先请求主来源，超过其延迟分位数仍未返回时再请求下一个来源，
+ * 先返回非空例句的结果胜出，其余请求被取消；空结果只在没有其他进行中的请求时才作为最终结果。
+ * 每个来源有独立的熔断器和延迟直方图
+ */
+@Service
+public class HedgedDictionaryClient {
+
+    private final List<ProviderSlot> providers = new ArrayList<>();
+    private final ExecutorService executor;
+
+    // 对冲等待时间 = 主来源延迟的该分位数，限制在 [min, max] 之间；样本不足时用默认值
+    private final double hedgePercentile;
+    private final int minSamples;
+    private final long defaultDelayMillis;
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedgedRequests = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong failovers = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+
+    public HedgedDictionaryClient(
+            List<DictionaryProvider> available,
+            @Value("${vocabulary.examples.online.providers:free-dictionary}") String providerNames,
+            @Value("${vocabulary.examples.online.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${vocabulary.examples.online.breaker.open-seconds:30}") long openSeconds,
+            @Value("${vocabulary.examples.online.hedge.percentile:0.95}") double hedgePercentile,
+            @Value("${vocabulary.examples.online.hedge.min-samples:20}") int minSamples,
+            @Value("${vocabulary.examples.online.hedge.default-delay-ms:300}") long defaultDelayMillis,
+            @Value("${vocabulary.examples.online.hedge.min-delay-ms:50}") long minDelayMillis,
+            @Value("${vocabulary.examples.online.hedge.max-delay-ms:1500}") long maxDelayMillis,
+            @Value("${vocabulary.examples.online.hedge.threads:16}") int threads) {
+        // 按配置顺序排列，第一个为主来源；未列出的来源不启用
+        for (String name : providerNames.split(",")) {
+            String trimmed = name.trim();
+            available.stream()
+                    .filter(provider -> provider.getName().equals(trimmed))
+                    .findFirst()
+                    .ifPresentOrElse(
+                            provider -> providers.add(new ProviderSlot(provider,
+                                    new CircuitBreaker(provider.getName(), failureThreshold, openSeconds * 1000))),
+                            () -> System.err.println("⚠️ 未知的词典来源: " + trimmed));
+        }
+        if (providers.isEmpty()) {
+            throw new IllegalStateException("没有可用的词典来源: " + providerNames);
+        }
+        System.out.println("📚 在线词典来源: " + Arrays.toString(providers.stream().map(slot -> slot.name).toArray()));
+
+        this.hedgePercentile = hedgePercentile;
+        this.minSamples = minSamples;
+        this.defaultDelayMillis = defaultDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(200), runnable -> {
+                    Thread thread = new Thread(runnable, "dictionary-hedge");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 查询例句：主来源超时未返回时对冲到下一个来源，失败时立即切换到下一个来源
+     * @param word 已提取的纯英文单词
+     */
+    public List<Map<String, String>> fetch(String word) throws Exception {
+        requests.incrementAndGet();
+        CompletionService<Outcome> completion = new ExecutorCompletionService<>(executor);
+        List<Attempt> attempts = new ArrayList<>();
+        Iterator<ProviderSlot> remaining = providers.iterator();
+
+        Attempt latest = startNext(remaining, word, completion, attempts);
+        if (latest == null) {
+            throw new IllegalStateException("在线词典已熔断，仅使用本地例句");
+        }
+
+        Exception lastError = null;
+        // 最先返回的空结果：其他请求都结束（或失败）后才作为最终结果
+        Outcome emptyOutcome = null;
+        int running = 1;
+        try {
+            while (running > 0) {
+                Future<Outcome> done = remaining.hasNext()
+                        ? completion.poll(hedgeDelay(latest.slot), TimeUnit.MILLISECONDS)
+                        : completion.take();
+                if (done == null) {
+                    // 当前请求慢于其分位数：对冲到下一个来源，原请求继续等待
+                    Attempt hedge = startNext(remaining, word, completion, attempts);
+                    if (hedge != null) {
+                        hedgedRequests.incrementAndGet();
+                        latest = hedge;
+                        running++;
+                    }
+                    continue;
+                }
+
+                running--;
+                try {
+                    Outcome outcome = done.get();
+                    if (outcome.examples.isEmpty() && running > 0) {
+                        // 空结果不立即胜出：仍在进行的对冲请求可能有例句，继续等待
+                        if (emptyOutcome == null) {
+                            emptyOutcome = outcome;
+                        }
+                        continue;
+                    }
+                    return accept(outcome, attempts);
+                } catch (ExecutionException e) {
+                    lastError = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    if (running == 0 && emptyOutcome == null) {
+                        // 已没有进行中的请求：立即切换到下一个来源
+                        Attempt next = startNext(remaining, word, completion, attempts);
+                        if (next != null) {
+                            failovers.incrementAndGet();
+                            latest = next;
+                            running++;
+                        }
+                    }
+                }
+            }
+            if (emptyOutcome != null) {
+                // 其他来源都失败了，空结果仍是有效答案（该词没有例句）
+                return accept(emptyOutcome, attempts);
+            }
+            failedRequests.incrementAndGet();
+            throw lastError != null ? lastError : new IllegalStateException("在线词典请求失败");
+        } finally {
+            // 取消仍在进行的请求：中止其 HTTP 请求并中断线程，结果会被丢弃
+            for (Attempt attempt : attempts) {
+                attempt.cancel();
+            }
+        }
+    }
+
+    private List<Map<String, String>> accept(Outcome outcome, List<Attempt> attempts) {
+        if (outcome.slot != attempts.get(0).slot) {
+            hedgeWins.incrementAndGet();
+        }
+        System.out.println("✅ 从在线API(" + outcome.slot.name + ")获取到 " + outcome.examples.size() + " 条例句");
+        return outcome.examples;
+    }
+
+    /**
+     * 所有来源都处于熔断状态；冷却期已过的熔断器报告为半开（见 CircuitBreaker.getState），
+     * 因此不会在没有前台请求探测时一直返回 true
+     */
+    public boolean isAllOpen() {
+        return providers.stream().allMatch(slot -> slot.breaker.getState() == CircuitBreaker.State.OPEN);
+    }
+
+    public Map<String, Object> circuitBreakerStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (ProviderSlot slot : providers) {
+            stats.put(slot.name, slot.breaker.stats());
+        }
+        return stats;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.get());
+        stats.put("hedgedRequests", hedgedRequests.get());
+        stats.put("hedgeWins", hedgeWins.get());
+        stats.put("failovers", failovers.get());
+        stats.put("failedRequests", failedRequests.get());
+        Map<String, Object> perProvider = new LinkedHashMap<>();
+        for (ProviderSlot slot : providers) {
+            Map<String, Object> providerStats = new LinkedHashMap<>();
+            providerStats.put("hedgeDelayMs", hedgeDelay(slot));
+            providerStats.put("latency", slot.latency.stats());
+            perProvider.put(slot.name, providerStats);
+        }
+        stats.put("providers", perProvider);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long hedgeDelay(ProviderSlot slot) {
+        if (slot.latency.count() < minSamples) {
+            return defaultDelayMillis;
+        }
+        return Math.max(minDelayMillis, Math.min(maxDelayMillis, slot.latency.percentile(hedgePercentile)));
+    }
+
+    /**
+     * 启动下一个未熔断的来源；没有可用来源时返回 null
+     */
+    private Attempt startNext(Iterator<ProviderSlot> remaining, String word,
+                              CompletionService<Outcome> completion, List<Attempt> attempts) {
+        while (remaining.hasNext()) {
+            ProviderSlot slot = remaining.next();
+            if (!slot.breaker.tryAcquire()) {
+                continue;
+            }
+            Attempt attempt = new Attempt(slot);
+            try {
+                attempt.future = completion.submit(() -> attempt.run(word));
+            } catch (RejectedExecutionException e) {
+                // 线程池已满，视为本次未发起
+                slot.breaker.onCancelled();
+                System.err.println("⚠️ 词典请求线程池已满，跳过来源: " + slot.name);
+                continue;
+            }
+            attempts.add(attempt);
+            return attempt;
+        }
+        return null;
+    }
+
+    private static class ProviderSlot {
+        final String name;
+        final DictionaryProvider provider;
+        final CircuitBreaker breaker;
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        ProviderSlot(DictionaryProvider provider, CircuitBreaker breaker) {
+            this.name = provider.getName();
+            this.provider = provider;
+            this.breaker = breaker;
+        }
+    }
+
+    private static class Outcome {
+        final ProviderSlot slot;
+        final List<Map<String, String>> examples;
+
+        Outcome(ProviderSlot slot, List<Map<String, String>> examples) {
+            this.slot = slot;
+            this.examples = examples;
+        }
+    }
+
+    /**
+     * 一次对某个来源的请求；负责在结束时释放熔断器名额
+     */
+    private static class Attempt {
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+
+        final ProviderSlot slot;
+        final AtomicInteger state = new AtomicInteger(PENDING);
+        // 该次请求发出的 HTTP 请求，取消时直接中止（中断线程打断不了阻塞读）
+        final RequestAbortHandle abortHandle = new RequestAbortHandle();
+        volatile boolean cancelled;
+        Future<Outcome> future;
+
+        Attempt(ProviderSlot slot) {
+            this.slot = slot;
+        }
+
+        Outcome run(String word) throws Exception {
+            if (!state.compareAndSet(PENDING, RUNNING)) {
+                throw new IllegalStateException("请求已取消");
+            }
+            long start = System.nanoTime();
+            abortHandle.bind();
+            try {
+                List<Map<String, String>> examples = slot.provider.fetchExamples(word);
+                slot.latency.record((System.nanoTime() - start) / 1_000_000);
+                slot.breaker.onSuccess();
+                return new Outcome(slot, examples);
+            } catch (Exception e) {
+                if (cancelled) {
+                    // 对冲落败被中断，不算上游故障
+                    slot.breaker.onCancelled();
+                } else {
+                    slot.latency.record((System.nanoTime() - start) / 1_000_000);
+                    slot.breaker.onFailure();
+                }
+                throw e;
+            } finally {
+                RequestAbortHandle.unbind();
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                // 还没开始执行：直接释放熔断器名额
+                slot.breaker.onCancelled();
+            }
+            // 关闭连接让阻塞在读取上的线程立即返回，连接不再占用池中名额
+            abortHandle.abort();
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/import")
+@CrossOrigin(origins = "*")
+public class ImportController {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * 上传 TXT/CSV 文件并创建后台导入任务，立即返回任务ID
+     */
+    @PostMapping
+    public ResponseEntity<?> startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "userId", required = false) Long userId) {
+        userId = RequestUser.resolve(userId);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+
+        try {
+            // 验证用户存在
+            if (!RequestUser.isVerified(userId) && !userRepository.existsById(userId)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
+            }
+
+            if (file.isEmpty()) {
+                return ResponseEntity.badRequest().body("文件不能为空");
+            }
+
+            ImportJob job = importJobService.submit(userId, file);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.toMap());
+        } catch (ImportJobService.SaturatedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "30")
+                    .body("导入任务过多，请稍后重试");
+        } catch (Exception e) {
+            System.err.println("❌ 创建导入任务失败: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("创建导入任务失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 查询导入进度和错误信息
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getImportJob(@PathVariable String jobId, @RequestParam(required = false) Long userId) {
+        userId = RequestUser.resolve(userId);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+
+        Optional<ImportJob> job = importJobService.findJob(jobId, userId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("导入任务不存在");
+        }
+        return ResponseEntity.ok(job.get().toMap());
+    }
+
+    /**
+     * 取消导入任务（已写入的分块会保留）
+     */
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<?> cancelImportJob(@PathVariable String jobId, @RequestParam(required = false) Long userId) {
+        userId = RequestUser.resolve(userId);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+
+        Optional<ImportJob> job = importJobService.findJob(jobId, userId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("导入任务不存在");
+        }
+        if (job.get().isFinished()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(job.get().toMap());
+        }
+        importJobService.cancel(job.get());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.get().toMap());
+    }
+}
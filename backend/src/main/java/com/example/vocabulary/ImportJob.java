@@ -0,0 +1,134 @@
+package com.example.vocabulary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 后台导入任务的进度状态，由导入线程更新、由查询接口读取
+ */
+public class ImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    // 最多保留的错误明细条数，避免大文件出错时无限增长
+    private static final int MAX_ERRORS = 100;
+
+    private final String id;
+    private final Long userId;
+    private final String fileName;
+    private final long createdAt = System.currentTimeMillis();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile String failureMessage;
+    private volatile boolean cancelRequested;
+
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    public ImportJob(String id, Long userId, String fileName) {
+        this.id = id;
+        this.userId = userId;
+        this.fileName = fileName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    void markRunning() {
+        this.startedAt = System.currentTimeMillis();
+        this.status = Status.RUNNING;
+    }
+
+    void markFinished(Status finalStatus, String message) {
+        this.failureMessage = message;
+        this.finishedAt = System.currentTimeMillis();
+        this.status = finalStatus;
+    }
+
+    long nextLine() {
+        return linesRead.incrementAndGet();
+    }
+
+    void recordInserted() {
+        inserted.incrementAndGet();
+    }
+
+    void recordDuplicate() {
+        duplicates.incrementAndGet();
+    }
+
+    void recordInvalid(long lineNumber, String line) {
+        invalid.incrementAndGet();
+        recordError("第 " + lineNumber + " 行无效: " + line);
+    }
+
+    void recordError(String message) {
+        errorCount.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("jobId", id);
+        map.put("status", status.name());
+        map.put("fileName", fileName);
+        map.put("linesRead", linesRead.get());
+        map.put("inserted", inserted.get());
+        map.put("duplicates", duplicates.get());
+        map.put("invalid", invalid.get());
+        map.put("errorCount", errorCount.get());
+        synchronized (errors) {
+            map.put("errors", new ArrayList<>(errors));
+        }
+        map.put("cancelRequested", cancelRequested);
+        map.put("failureMessage", failureMessage);
+        map.put("createdAt", createdAt);
+        map.put("startedAt", startedAt > 0 ? startedAt : null);
+        map.put("finishedAt", finishedAt > 0 ? finishedAt : null);
+        return map;
+    }
+}
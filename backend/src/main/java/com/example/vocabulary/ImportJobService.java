@@ -0,0 +1,358 @@
+package com.example.vocabulary;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 流式导入任务：上传文件落盘后由后台线程逐行读取，按固定大小分块写库。
+ * 排队的任务数有上限，队列已满时立即拒绝（调用方返回 503），避免临时文件无限堆积
+ */
+@Service
+public class ImportJobService {
+
+    // 每次提交到数据库的行数（每块一个事务）
+    private static final int CHUNK_SIZE = 1000;
+
+    // 已结束任务的保留时间，超过后在下次提交时清理
+    private static final long FINISHED_JOB_RETENTION_MILLIS = 60 * 60 * 1000L;
+
+    // 与前端 TXT 导入一致：单词开头为英文字母（可带连字符），其余部分作为含义
+    private static final Pattern LEADING_WORD = Pattern.compile("^([a-zA-Z]+(?:-[a-zA-Z]+)*)");
+
+    @Autowired
+    private WordImportService wordImportService;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ImportJobService(@Value("${vocabulary.import.threads:2}") int threads,
+                            @Value("${vocabulary.import.queue-capacity:20}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ImportThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 将上传文件转存到临时文件并提交后台任务，立即返回任务对象
+     * @throws SaturatedException 运行中和排队的任务都已满
+     */
+    public ImportJob submit(Long userId, MultipartFile file) throws IOException {
+        pruneFinishedJobs();
+        if (executor.getQueue().remainingCapacity() == 0) {
+            // 队列已满时不再落盘，直接拒绝
+            rejected.incrementAndGet();
+            throw new SaturatedException();
+        }
+
+        Path tempFile = Files.createTempFile("word-import-", ".txt");
+        try {
+            file.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId, file.getOriginalFilename());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> runJob(job, tempFile));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(tempFile);
+            rejected.incrementAndGet();
+            throw new SaturatedException();
+        }
+
+        System.out.println("📥 导入任务已提交: " + job.getId() + "，用户 " + userId + "，文件大小: " + file.getSize());
+        return job;
+    }
+
+    /**
+     * 查询任务（只返回属于该用户的任务）
+     */
+    public Optional<ImportJob> findJob(String jobId, Long userId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    /**
+     * 请求取消任务；已提交的分块不会回滚
+     */
+    public void cancel(ImportJob job) {
+        job.requestCancel();
+        System.out.println("🛑 请求取消导入任务: " + job.getId());
+    }
+
+    private void runJob(ImportJob job, Path file) {
+        try {
+            if (job.isCancelRequested()) {
+                job.markFinished(ImportJob.Status.CANCELLED, null);
+                return;
+            }
+            job.markRunning();
+
+            List<WordRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+            // 格式按文件确定一次（扩展名，其次第一个非空行），不逐行猜测
+            LineFormat format = null;
+
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (job.isCancelRequested()) {
+                        break;
+                    }
+
+                    long lineNumber = job.nextLine();
+                    if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                        line = line.substring(1);
+                    }
+                    line = line.trim();
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+
+                    if (format == null) {
+                        format = LineFormat.detect(job.getFileName(), line);
+                    }
+
+                    WordRequest parsed = parseLine(line, format);
+                    if (parsed == null) {
+                        job.recordInvalid(lineNumber, line);
+                        continue;
+                    }
+
+                    chunk.add(parsed);
+                    chunkLines.add(lineNumber);
+                    if (chunk.size() >= CHUNK_SIZE) {
+                        flushChunk(job, chunk, chunkLines);
+                    }
+                }
+            }
+
+            if (job.isCancelRequested()) {
+                job.markFinished(ImportJob.Status.CANCELLED, null);
+                System.out.println("🛑 导入任务已取消: " + job.getId());
+                return;
+            }
+
+            flushChunk(job, chunk, chunkLines);
+            job.markFinished(ImportJob.Status.COMPLETED, null);
+            System.out.println("✅ 导入任务完成: " + job.getId());
+        } catch (Exception e) {
+            System.err.println("❌ 导入任务失败: " + job.getId() + " - " + e.getMessage());
+            job.markFinished(ImportJob.Status.FAILED, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.err.println("⚠️ 删除临时导入文件失败: " + file);
+            }
+        }
+    }
+
+    private void flushChunk(ImportJob job, List<WordRequest> chunk, List<Long> chunkLines) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<String> statuses = wordImportService.importWords(job.getUserId(), chunk);
+        for (int i = 0; i < statuses.size(); i++) {
+            String status = statuses.get(i);
+            if (WordImportService.STATUS_INSERTED.equals(status)) {
+                job.recordInserted();
+            } else if (WordImportService.STATUS_DUPLICATE.equals(status)) {
+                job.recordDuplicate();
+            } else {
+                job.recordInvalid(chunkLines.get(i), chunk.get(i).getWord());
+            }
+        }
+
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * 文件格式：word:meaning、word\tmeaning、CSV（word,meaning，支持双引号）或 "word 含义"
+     */
+    enum LineFormat {
+        COLON, TAB, CSV, SPACE;
+
+        /**
+         * .csv / .tsv 按扩展名确定；其他文件看第一个非空行中最先出现的分隔符
+         */
+        static LineFormat detect(String fileName, String firstLine) {
+            String name = fileName != null ? fileName.toLowerCase() : "";
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".tsv")) {
+                return TAB;
+            }
+            if (firstLine.startsWith("\"")) {
+                return CSV;
+            }
+
+            LineFormat format = SPACE;
+            int first = Integer.MAX_VALUE;
+            int colon = firstLine.indexOf(':');
+            if (colon >= 0 && colon < first) {
+                format = COLON;
+                first = colon;
+            }
+            int tab = firstLine.indexOf('\t');
+            if (tab >= 0 && tab < first) {
+                format = TAB;
+                first = tab;
+            }
+            int comma = firstLine.indexOf(',');
+            if (comma >= 0 && comma < first) {
+                format = CSV;
+            }
+            return format;
+        }
+    }
+
+    /**
+     * 按文件格式解析一行；没有分隔符的行只取开头的单词（与 TXT 中只写单词的行一致）
+     */
+    static WordRequest parseLine(String line, LineFormat format) {
+        String word = null;
+        String meaning = null;
+
+        if (format == LineFormat.CSV) {
+            List<String> fields = splitCsv(line);
+            if (fields == null) {
+                // 引号未闭合
+                return null;
+            }
+            word = fields.get(0);
+            // 多出的列按原样拼回含义，避免含义中未加引号的逗号被截断
+            meaning = fields.size() > 1 ? String.join(",", fields.subList(1, fields.size())) : null;
+        } else {
+            int idx = format == LineFormat.COLON ? line.indexOf(':')
+                    : format == LineFormat.TAB ? line.indexOf('\t')
+                    : -1;
+            if (idx >= 0) {
+                word = line.substring(0, idx);
+                meaning = line.substring(idx + 1);
+            } else {
+                Matcher matcher = LEADING_WORD.matcher(line);
+                if (matcher.find()) {
+                    word = matcher.group(1);
+                    meaning = line.substring(word.length());
+                }
+            }
+        }
+
+        if (word == null || word.trim().isEmpty()) {
+            return null;
+        }
+        String trimmedMeaning = meaning != null ? meaning.trim() : "";
+        return new WordRequest(word.trim(), trimmedMeaning.isEmpty() ? null : trimmedMeaning);
+    }
+
+    /**
+     * 按 RFC 4180 拆分一行 CSV：引号内的逗号不分列，"" 表示一个引号；引号未闭合时返回 null
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+
+    private void pruneFinishedJobs() {
+        long cutoff = System.currentTimeMillis() - FINISHED_JOB_RETENTION_MILLIS;
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt() < cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(ImportJob::requestCancel);
+        executor.shutdown();
+    }
+
+    /**
+     * 导入线程池和队列都已满
+     */
+    public static class SaturatedException extends RuntimeException {
+        public SaturatedException() {
+            super("导入任务过多");
+        }
+    }
+
+    private static class ImportThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "word-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.example.vocabulary;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 游标分页：WHERE user_id = ? AND id > ? ORDER BY id
+        @Index(name = "idx_item_user_id_id", columnList = "user_id, id"),
+        // 复习队列：WHERE user_id = ? AND next_review_at <= ? ORDER BY next_review_at
+        @Index(name = "idx_item_user_id_next_review_at", columnList = "user_id, next_review_at")
+})
 public class Item {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -16,7 +30,16 @@ public class Item {
     private String meaning; // 中文意思
     private Integer rememberedCount = 0; // 记住次数
 
-    @ManyToOne
+    // 间隔重复（SM-2）调度状态
+    @Column(name = "next_review_at")
+    private LocalDateTime nextReviewAt; // 下次复习时间
+    private Double easeFactor = ReviewService.INITIAL_EASE_FACTOR; // 难度系数
+    private Integer intervalDays = 0; // 当前复习间隔（天）
+    private Integer repetitions = 0; // 连续答对次数
+
+    // 懒加载，读取接口使用 WordView 投影，不序列化 User（包含密码哈希）
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -63,6 +86,14 @@ public class Item {
         this.rememberedCount = rememberedCount != null ? rememberedCount : 0;
     }
 
+    @PrePersist
+    void initializeReviewSchedule() {
+        // 新单词立即进入复习队列
+        if (nextReviewAt == null) {
+            nextReviewAt = LocalDateTime.now();
+        }
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -103,4 +134,36 @@ public class Item {
     public void setUser(User user) {
         this.user = user;
     }
+
+    public LocalDateTime getNextReviewAt() {
+        return nextReviewAt;
+    }
+
+    public void setNextReviewAt(LocalDateTime nextReviewAt) {
+        this.nextReviewAt = nextReviewAt;
+    }
+
+    public Double getEaseFactor() {
+        return easeFactor;
+    }
+
+    public void setEaseFactor(Double easeFactor) {
+        this.easeFactor = easeFactor;
+    }
+
+    public Integer getIntervalDays() {
+        return intervalDays;
+    }
+
+    public void setIntervalDays(Integer intervalDays) {
+        this.intervalDays = intervalDays;
+    }
+
+    public Integer getRepetitions() {
+        return repetitions;
+    }
+
+    public void setRepetitions(Integer repetitions) {
+        this.repetitions = repetitions;
+    }
 }
\ No newline at end of file
@@ -1,10 +1,95 @@
 package com.example.vocabulary;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByUserIdOrderByIdAsc(Long userId);
-}
\ No newline at end of file
+
+    // 批量导入时查询已存在的单词（小写比较）
+    @Query("select lower(i.word) from Item i where i.user.id = :userId and lower(i.word) in :words")
+    List<String> findExistingWords(@Param("userId") Long userId, @Param("words") Collection<String> words);
+
+    @Query("select new com.example.vocabulary.WordView(i.id, i.word, i.meaning, i.rememberedCount, i.user.id) "
+            + "from Item i where i.user.id = :userId order by i.id")
+    List<WordView> findViewsByUserId(@Param("userId") Long userId);
+
+    // 游标分页（keyset），pageable 只用于限制条数
+    @Query("select new com.example.vocabulary.WordView(i.id, i.word, i.meaning, i.rememberedCount, i.user.id) "
+            + "from Item i where i.user.id = :userId and i.id > :afterId order by i.id")
+    List<WordView> findViewPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.example.vocabulary.WordView(i.id, i.word, i.meaning, i.rememberedCount, i.user.id) "
+            + "from Item i where i.id > :afterId order by i.id")
+    List<WordView> findViewPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 全表流式读取，需在事务内消费并关闭；MySQL 需配合 useCursorFetch=true 才会按 fetch size 分批拉取
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select i.word from Item i order by i.id")
+    Stream<String> streamAllWords();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.vocabulary.WordView(i.id, i.word, i.meaning, i.rememberedCount, i.user.id) "
+            + "from Item i order by i.id")
+    Stream<WordView> streamAllViews();
+
+    // 按记住次数分组计数，返回 [rememberedCount, count]
+    @Query("select i.rememberedCount, count(i) from Item i where i.user.id = :userId group by i.rememberedCount")
+    List<Object[]> countByRememberedCount(@Param("userId") Long userId);
+
+    // 到期复习队列，走 (user_id, next_review_at) 索引，只读取到期的部分
+    @Query("select new com.example.vocabulary.ReviewItemView(i.id, i.word, i.meaning, i.rememberedCount, "
+            + "i.nextReviewAt, i.easeFactor, i.intervalDays, i.repetitions) "
+            + "from Item i where i.user.id = :userId and i.nextReviewAt <= :now order by i.nextReviewAt, i.id")
+    List<ReviewItemView> findDueReviews(@Param("userId") Long userId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("select count(i) from Item i where i.user.id = :userId and i.nextReviewAt <= :now")
+    long countDueReviews(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 提交复习结果时锁定单行，避免并发作答互相覆盖调度状态
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = :id and i.user.id = :userId")
+    Optional<Item> findForReview(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 为升级前已存在（调度字段为空）的单词补齐初始调度状态
+    @Modifying
+    @Transactional
+    @Query("update Item i set i.nextReviewAt = :now, i.easeFactor = :easeFactor, i.intervalDays = 0, i.repetitions = 0 "
+            + "where i.nextReviewAt is null")
+    int initializeMissingReviewSchedules(@Param("now") LocalDateTime now, @Param("easeFactor") Double easeFactor);
+
+    // 单条 UPDATE 原子地增加记住次数，按 user_id 限定范围；返回受影响行数
+    @Modifying
+    @Transactional
+    @Query("update Item i set i.rememberedCount = coalesce(i.rememberedCount, 0) + 1 where i.id = :id and i.user.id = :userId")
+    int incrementRememberedCount(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 单条 DELETE，按 user_id 限定范围；返回受影响行数
+    @Modifying
+    @Transactional
+    @Query("delete from Item i where i.id = :id and i.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+}
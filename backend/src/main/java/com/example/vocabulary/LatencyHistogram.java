@@ -0,0 +1,73 @@
+package com.example.vocabulary;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 固定分桶的延迟直方图（毫秒），无锁记录，分位数取所在桶的上界
+ */
+public class LatencyHistogram {
+
+    // 各桶上界（毫秒），最后一个桶收纳更慢的请求
+    private static final long[] BOUNDS = {5, 10, 25, 50, 100, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 10000};
+
+    private final AtomicLongArray counts = new AtomicLongArray(BOUNDS.length + 1);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sumMillis = new AtomicLong();
+
+    public void record(long millis) {
+        int bucket = BOUNDS.length;
+        for (int i = 0; i < BOUNDS.length; i++) {
+            if (millis <= BOUNDS[i]) {
+                bucket = i;
+                break;
+            }
+        }
+        counts.incrementAndGet(bucket);
+        total.incrementAndGet();
+        sumMillis.addAndGet(millis);
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    /**
+     * @param quantile 0 ~ 1，例如 0.95
+     * @return 分位数所在桶的上界；没有样本时返回 -1
+     */
+    public long percentile(double quantile) {
+        long n = total.get();
+        if (n == 0) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(quantile * n);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return i < BOUNDS.length ? BOUNDS[i] : BOUNDS[BOUNDS.length - 1] * 2;
+            }
+        }
+        return BOUNDS[BOUNDS.length - 1] * 2;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long n = total.get();
+        stats.put("count", n);
+        stats.put("avgMs", n == 0 ? 0 : sumMillis.get() / n);
+        stats.put("p50Ms", percentile(0.50));
+        stats.put("p95Ms", percentile(0.95));
+        stats.put("p99Ms", percentile(0.99));
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < BOUNDS.length; i++) {
+            buckets.put("le" + BOUNDS[i], counts.get(i));
+        }
+        buckets.put("gt" + BOUNDS[BOUNDS.length - 1], counts.get(BOUNDS.length));
+        stats.put("buckets", buckets);
+        return stats;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.vocabulary;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 英文词形还原：不规则变化查表，规则变化按后缀生成候选词，取第一个在已知词表中出现的候选
+ */
+public final class Lemmatizer {
+
+    // 常见不规则变化（动词过去式/过去分词、名词复数、形容词比较级）
+    private static final Map<String, String> IRREGULAR = Map.ofEntries(
+            Map.entry("am", "be"), Map.entry("is", "be"), Map.entry("are", "be"), Map.entry("was", "be"),
+            Map.entry("were", "be"), Map.entry("been", "be"), Map.entry("being", "be"),
+            Map.entry("has", "have"), Map.entry("had", "have"), Map.entry("does", "do"), Map.entry("did", "do"),
+            Map.entry("done", "do"), Map.entry("went", "go"), Map.entry("gone", "go"), Map.entry("goes", "go"),
+            Map.entry("took", "take"), Map.entry("taken", "take"), Map.entry("made", "make"),
+            Map.entry("came", "come"), Map.entry("saw", "see"), Map.entry("seen", "see"),
+            Map.entry("gave", "give"), Map.entry("given", "give"), Map.entry("got", "get"), Map.entry("gotten", "get"),
+            Map.entry("knew", "know"), Map.entry("known", "know"), Map.entry("thought", "think"),
+            Map.entry("told", "tell"), Map.entry("said", "say"), Map.entry("found", "find"),
+            Map.entry("left", "leave"), Map.entry("felt", "feel"), Map.entry("kept", "keep"),
+            Map.entry("brought", "bring"), Map.entry("bought", "buy"), Map.entry("taught", "teach"),
+            Map.entry("caught", "catch"), Map.entry("fought", "fight"), Map.entry("sought", "seek"),
+            Map.entry("began", "begin"), Map.entry("begun", "begin"), Map.entry("ran", "run"),
+            Map.entry("wrote", "write"), Map.entry("written", "write"), Map.entry("spoke", "speak"),
+            Map.entry("spoken", "speak"), Map.entry("broke", "break"), Map.entry("broken", "break"),
+            Map.entry("chose", "choose"), Map.entry("chosen", "choose"), Map.entry("drove", "drive"),
+            Map.entry("driven", "drive"), Map.entry("ate", "eat"), Map.entry("eaten", "eat"),
+            Map.entry("fell", "fall"), Map.entry("fallen", "fall"), Map.entry("flew", "fly"), Map.entry("flown", "fly"),
+            Map.entry("forgot", "forget"), Map.entry("forgotten", "forget"), Map.entry("grew", "grow"),
+            Map.entry("grown", "grow"), Map.entry("held", "hold"), Map.entry("heard", "hear"),
+            Map.entry("led", "lead"), Map.entry("lost", "lose"), Map.entry("meant", "mean"), Map.entry("met", "meet"),
+            Map.entry("paid", "pay"), Map.entry("sat", "sit"), Map.entry("sent", "send"), Map.entry("spent", "spend"),
+            Map.entry("stood", "stand"), Map.entry("understood", "understand"), Map.entry("won", "win"),
+            Map.entry("wore", "wear"), Map.entry("worn", "wear"), Map.entry("built", "build"),
+            Map.entry("drew", "draw"), Map.entry("drawn", "draw"), Map.entry("rose", "rise"), Map.entry("risen", "rise"),
+            Map.entry("shown", "show"), Map.entry("sang", "sing"), Map.entry("sung", "sing"),
+            Map.entry("swam", "swim"), Map.entry("threw", "throw"), Map.entry("thrown", "throw"),
+            Map.entry("children", "child"), Map.entry("men", "man"), Map.entry("women", "woman"),
+            Map.entry("people", "person"), Map.entry("feet", "foot"), Map.entry("teeth", "tooth"),
+            Map.entry("mice", "mouse"), Map.entry("lives", "life"), Map.entry("wives", "wife"),
+            Map.entry("knives", "knife"), Map.entry("leaves", "leaf"), Map.entry("halves", "half"),
+            Map.entry("better", "good"), Map.entry("best", "good"), Map.entry("worse", "bad"), Map.entry("worst", "bad"),
+            Map.entry("more", "much"), Map.entry("most", "much"), Map.entry("less", "little"), Map.entry("least", "little")
+    );
+
+    // 以 s / ing / ed 等结尾但不是变形的词，原样返回（news 不是 new 的复数）
+    private static final Set<String> NOT_INFLECTED = Set.of(
+            "news", "series", "species", "means", "lens", "always", "perhaps", "towards", "afterwards",
+            "sometimes", "nowadays", "whereas", "thus", "this", "his", "its", "yes", "gas", "bus", "plus",
+            "physics", "mathematics", "economics", "politics", "athletics", "electronics",
+            "pudding", "wedding", "bedding", "during", "nothing", "something", "anything", "everything",
+            "morning", "evening", "ceiling", "king", "ring", "thing", "spring", "string", "wing",
+            "need", "seed", "speed", "feed", "bed", "red", "shed", "hundred", "sacred", "naked", "wicked"
+    );
+
+    // 代词、介词、冠词等功能词不会作为规则变形的原形（uses 不是 us 的变形，hers 不是 her 的变形）
+    private static final Set<String> NOT_A_BASE = Set.of(
+            "a", "an", "the", "us", "we", "he", "she", "me", "him", "her", "it", "its", "my", "our", "your",
+            "them", "their", "his", "this", "that", "these", "those", "who", "what", "when", "as", "at", "in",
+            "on", "of", "to", "by", "up", "for", "from", "with", "or", "and", "but", "so", "no", "not",
+            "than", "then", "there", "thus"
+    );
+
+    // 后缀规则：{后缀, 替换1, 替换2, ...}，按顺序尝试；先试 +e（cared -> care，而不是 car）
+    private static final String[][] SUFFIX_RULES = {
+            {"iest", "y"},
+            {"ier", "y"},
+            {"ies", "y"},
+            {"ied", "y"},
+            {"sses", "ss"},
+            {"es", "e", ""},
+            {"s", ""},
+            {"ing", "e", ""},
+            {"ed", "e", ""},
+            {"est", "e", ""},
+            {"er", "e", ""},
+    };
+
+    // 只有以这些结尾的词才加 -es 构成复数/三单（boxes、watches、goes），uses 不是 us 的变形
+    private static final String[] ES_STEM_ENDINGS = {"s", "x", "z", "ch", "sh", "o"};
+
+    private static final Set<String> DOUBLING_SUFFIXES = Set.of("ing", "ed", "est", "er");
+
+    // 没有已知候选时也按双写辅音还原（running -> run）；-er/-est 容易误判（dinner、summer），不在其中
+    private static final Set<String> DEFAULT_UNDOUBLING_SUFFIXES = Set.of("ing", "ed");
+
+    // 这些辅音双写常是原形的一部分（falling -> fall, passed -> pass），不默认去掉
+    private static final String KEEP_DOUBLED = "lsfz";
+
+    private Lemmatizer() {
+    }
+
+    /**
+     * @param token 小写的英文单词
+     * @param known 候选原形是否已知（如索引中的词元），用于在多个候选中选择
+     * @return 还原后的词；没有合适的候选时返回原词
+     */
+    public static String lemma(String token, Predicate<String> known) {
+        if (NOT_INFLECTED.contains(token)) {
+            return token;
+        }
+        String irregular = IRREGULAR.get(token);
+        if (irregular != null) {
+            return irregular;
+        }
+        String undoubledFallback = null;
+        for (String[] rule : SUFFIX_RULES) {
+            String suffix = rule[0];
+            if (token.length() <= suffix.length() + 1 || !token.endsWith(suffix)) {
+                continue;
+            }
+            if (suffix.equals("s") && (token.endsWith("ss") || token.endsWith("us") || token.endsWith("is"))) {
+                continue;
+            }
+            String stem = token.substring(0, token.length() - suffix.length());
+            for (int i = 1; i < rule.length; i++) {
+                if (rule[i].isEmpty() && !acceptsBareStem(suffix, stem)) {
+                    continue;
+                }
+                String candidate = stem + rule[i];
+                if (!NOT_A_BASE.contains(candidate) && known.test(candidate)) {
+                    return candidate;
+                }
+            }
+            // stopped -> stop, running -> run
+            if (DOUBLING_SUFFIXES.contains(suffix) && stem.length() >= 3
+                    && stem.charAt(stem.length() - 1) == stem.charAt(stem.length() - 2)) {
+                String undoubled = stem.substring(0, stem.length() - 1);
+                if (known.test(undoubled)) {
+                    return undoubled;
+                }
+                char doubled = stem.charAt(stem.length() - 1);
+                if (undoubledFallback == null && DEFAULT_UNDOUBLING_SUFFIXES.contains(suffix)
+                        && KEEP_DOUBLED.indexOf(doubled) < 0 && isConsonant(doubled)) {
+                    undoubledFallback = undoubled;
+                }
+            }
+        }
+        // 双写辅音 + ing/ed 几乎一定是变形，原形不在词表中时也还原
+        return undoubledFallback != null ? undoubledFallback : token;
+    }
+
+    /**
+     * 去掉后缀后直接作为原形是否合理：
+     * -es 只跟在 s/x/z/ch/sh/o 之后；单音节“元音 + 辅音”结尾的词加 -ing/-ed/-er/-est 时要双写辅音，
+     * 所以 cared、used 不可能是 car、us 的变形（应为 care、use）
+     */
+    private static boolean acceptsBareStem(String suffix, String stem) {
+        if (suffix.equals("es")) {
+            for (String ending : ES_STEM_ENDINGS) {
+                if (stem.endsWith(ending)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return !DOUBLING_SUFFIXES.contains(suffix) || !requiresDoubling(stem);
+    }
+
+    /**
+     * 单音节且以“单个元音 + 单个辅音”结尾（w/x/y 除外），如 stop、car、us
+     */
+    private static boolean requiresDoubling(String stem) {
+        int n = stem.length();
+        char last = stem.charAt(n - 1);
+        if (!isConsonant(last) || "wxy".indexOf(last) >= 0 || !isVowel(stem.charAt(n - 2))) {
+            return false;
+        }
+        if (n >= 3 && isVowel(stem.charAt(n - 3))) {
+            return false;
+        }
+        int vowelGroups = 0;
+        for (int i = 0; i < n; i++) {
+            if (isVowel(stem.charAt(i)) && (i == 0 || !isVowel(stem.charAt(i - 1)))) {
+                vowelGroups++;
+            }
+        }
+        return vowelGroups == 1;
+    }
+
+    private static boolean isVowel(char c) {
+        return "aeiou".indexOf(c) >= 0;
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'a' && c <= 'z' && "aeiouy".indexOf(c) < 0;
+    }
+}
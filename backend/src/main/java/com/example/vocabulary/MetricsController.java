@@ -0,0 +1,63 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 运行时指标（缓存命中率等），用于观察性能优化效果
+ */
+@RestController
+@RequestMapping("/api/metrics")
+@CrossOrigin(origins = "*")
+public class MetricsController {
+
+    @Autowired
+    private WordListCache wordListCache;
+
+    @Autowired
+    private OnlineExampleService onlineExampleService;
+
+    @Autowired
+    private ExamplePrefetchService examplePrefetchService;
+
+    @Autowired
+    private HedgedDictionaryClient dictionaryClient;
+
+    @Autowired
+    private ExampleSentenceService exampleSentenceService;
+
+    @Autowired
+    private ExampleResponseCache exampleResponseCache;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private UsernameIndex usernameIndex;
+
+    @Autowired
+    private AvatarStore avatarStore;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @GetMapping
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("wordListCache", wordListCache.stats());
+        metrics.put("onlineExampleCache", onlineExampleService.cacheStats());
+        metrics.put("onlineCircuitBreaker", onlineExampleService.circuitBreakerStats());
+        metrics.put("examplePrefetch", examplePrefetchService.stats());
+        metrics.put("dictionaryProviders", dictionaryClient.stats());
+        metrics.put("localExamples", exampleSentenceService.stats());
+        metrics.put("exampleResponseCache", exampleResponseCache.stats());
+        metrics.put("passwordHashing", passwordHashingService.stats());
+        metrics.put("usernameIndex", usernameIndex.stats());
+        metrics.put("avatars", avatarStore.stats());
+        metrics.put("importJobs", importJobService.stats());
+        return metrics;
+    }
+}
@@ -1,28 +1,91 @@
 package com.example.vocabulary;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
 public class OnlineExampleService {
 
+    // 多个在线词典来源，带对冲请求和各自的熔断器
     @Autowired
-    private RestTemplate restTemplate;
+    private HedgedDictionaryClient dictionaryClient;
 
     @Autowired
     private ExampleSentenceService localExampleService;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 二级持久化存储：内存缓存未命中时先查数据库，再请求网络
+    @Autowired
+    private ExampleStore exampleStore;
+
+    @Value("${vocabulary.examples.store.warm-load-max:20000}")
+    private int warmLoadMax;
+
+    // 在线例句缓存：key 为规范化后的单词，空列表表示“查过但没有例句”（负缓存）
+    private final BoundedCache<String, List<Map<String, String>>> exampleCache;
+    private final long positiveTtlMillis;
+    private final long negativeTtlMillis;
+    private final long staleMillis;
+
+    // 正在进行的在线请求：同一单词的并发调用共享一次请求和解析结果
+    private final Map<String, CompletableFuture<List<Map<String, String>>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong upstreamCalls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+    private final AtomicLong storeHits = new AtomicLong();
+
+    // 批量查询时在线请求的并发上限（所有批量请求共享），队列满时由调用线程自己执行
+    private final ExecutorService batchExecutor;
+    private final long batchTimeoutMillis;
+
+    // 后台刷新过期条目，同一单词同时只刷新一次
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = new ThreadPoolExecutor(1, 2, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(100), runnable -> {
+                Thread thread = new Thread(runnable, "example-refresh");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    public OnlineExampleService(
+            @Value("${vocabulary.examples.cache.max-weight-bytes:16777216}") long maxWeightBytes,
+            @Value("${vocabulary.examples.cache.positive-ttl-seconds:86400}") long positiveTtlSeconds,
+            @Value("${vocabulary.examples.cache.negative-ttl-seconds:3600}") long negativeTtlSeconds,
+            @Value("${vocabulary.examples.cache.stale-seconds:86400}") long staleSeconds,
+            @Value("${vocabulary.examples.batch.parallelism:8}") int batchParallelism,
+            @Value("${vocabulary.examples.batch.timeout-ms:5000}") long batchTimeoutMillis) {
+        this.exampleCache = new BoundedCache<>("online-examples", maxWeightBytes, OnlineExampleService::weigh);
+        this.positiveTtlMillis = positiveTtlSeconds * 1000;
+        this.negativeTtlMillis = negativeTtlSeconds * 1000;
+        this.staleMillis = staleSeconds * 1000;
+        this.batchExecutor = new ThreadPoolExecutor(batchParallelism, batchParallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(500), runnable -> {
+                    Thread thread = new Thread(runnable, "example-batch");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.batchTimeoutMillis = batchTimeoutMillis;
+    }
 
     /**
-     * 获取单词例句（优先使用本地，失败时尝试在线API）
+     * 获取单词例句（优先使用本地，其次缓存，最后尝试在线API）
      */
     public List<Map<String, String>> getExamples(String word) {
         // 1. 先尝试本地数据库
@@ -31,89 +94,227 @@ public class OnlineExampleService {
             return localExamples;
         }
 
-        // 2. 本地没有，尝试在线API
+        // 在线词典只支持英语，其他语言只使用本地例句
+        if (ExampleLanguage.detect(word) != ExampleLanguage.EN) {
+            return localExamples;
+        }
+
+        // 2. 查询缓存（包括“没有例句”的负缓存），过期条目先返回旧值再后台刷新
+        String key = normalizeKey(word);
+        BoundedCache.Lookup<List<Map<String, String>>> cached = exampleCache.lookup(key, staleMillis);
+        if (cached != null) {
+            if (cached.isStale()) {
+                refreshInBackground(key, word);
+            }
+            return cached.getValue();
+        }
+
+        // 3. 本地和缓存都没有，尝试在线API（与同一单词的并发请求合并）
         try {
-            return fetchOnlineExamples(word);
+            return fetchShared(key, word);
         } catch (Exception e) {
+            // 网络错误不写入负缓存，下次仍会重试
             System.err.println("在线API失败: " + e.getMessage());
             return new ArrayList<>();
         }
     }
 
     /**
-     * 从免费词典API获取例句
-     * 使用 Free Dictionary API: https://api.dictionaryapi.dev/
+     * 批量获取例句：本地命中直接在内存中返回，未命中的单词并发查询在线API
+     * @return 按输入顺序（去重后）排列的 单词 -> 例句列表；超时的单词返回空列表
      */
-    private List<Map<String, String>> fetchOnlineExamples(String word) throws Exception {
-        // 提取纯英文单词
-        String cleanWord = extractEnglishWord(word);
+    public Map<String, List<Map<String, String>>> getExamplesBatch(List<String> words) {
+        Map<String, List<Map<String, String>>> results = new LinkedHashMap<>();
+        Map<String, Future<List<Map<String, String>>>> pending = new HashMap<>();
 
-        // 调用 Free Dictionary API
-        String url = "https://api.dictionaryapi.dev/api/v2/entries/en/" + cleanWord;
-        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        for (String word : words) {
+            if (results.containsKey(word)) {
+                continue;
+            }
+            List<Map<String, String>> localExamples = localExampleService.getExamples(word);
+            results.put(word, localExamples);
+            if (localExamples.isEmpty()) {
+                pending.put(word, batchExecutor.submit(() -> getExamples(word)));
+            }
+        }
 
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new RuntimeException("API调用失败");
+        long deadline = System.currentTimeMillis() + batchTimeoutMillis;
+        for (Map.Entry<String, Future<List<Map<String, String>>>> entry : pending.entrySet()) {
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                results.put(entry.getKey(), entry.getValue().get(remaining, TimeUnit.MILLISECONDS));
+            } catch (TimeoutException e) {
+                // 不取消：请求可能被其他调用共享，完成后仍会写入缓存
+                System.err.println("批量查询例句超时: " + entry.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                System.err.println("批量查询例句失败: " + entry.getKey() + " - " + e.getMessage());
+            }
         }
+        return results;
+    }
 
-        JsonNode root = objectMapper.readTree(response.getBody());
+    public Map<String, Object> cacheStats() {
+        Map<String, Object> stats = new HashMap<>(exampleCache.stats());
+        stats.put("upstreamCalls", upstreamCalls.get());
+        stats.put("coalescedCalls", coalescedCalls.get());
+        stats.put("inFlight", inFlight.size());
+        stats.put("storeHits", storeHits.get());
+        return stats;
+    }
 
-        if (!root.isArray() || root.size() == 0) {
-            return new ArrayList<>();
+    /**
+     * single-flight：第一个调用者发起请求，其余并发调用者等待同一个结果
+     */
+    private List<Map<String, String>> fetchShared(String key, String word) throws Exception {
+        CompletableFuture<List<Map<String, String>>> future = new CompletableFuture<>();
+        CompletableFuture<List<Map<String, String>>> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCalls.incrementAndGet();
+            try {
+                return existing.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
         }
 
-        List<Map<String, String>> examples = new ArrayList<>();
-
-        // 解析返回的JSON
-        JsonNode meanings = root.get(0).get("meanings");
-        if (meanings != null && meanings.isArray()) {
-            for (JsonNode meaning : meanings) {
-                JsonNode definitions = meaning.get("definitions");
-                if (definitions != null && definitions.isArray()) {
-                    for (JsonNode def : definitions) {
-                        // 提取例句
-                        JsonNode exampleNode = def.get("example");
-                        if (exampleNode != null && !exampleNode.isNull()) {
-                            String english = exampleNode.asText();
-
-                            // 添加中文翻译（简单的占位符或自动翻译）
-                            Map<String, String> exampleMap = new HashMap<>();
-                            exampleMap.put("english", english);
-                            exampleMap.put("chinese", "[需要翻译] " + english); // 可以集成其他翻译API
-
-                            examples.add(exampleMap);
-
-                            // 最多返回5条
-                            if (examples.size() >= 5) {
-                                break;
-                            }
-                        }
-                    }
-                    if (examples.size() >= 5) break;
-                }
+        try {
+            upstreamCalls.incrementAndGet();
+            List<Map<String, String>> examples = fetchAndCache(key, word);
+            future.complete(examples);
+            return examples;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 所有在线词典来源都已熔断
+     */
+    public boolean isCircuitOpen() {
+        return dictionaryClient.isAllOpen();
+    }
+
+    public Map<String, Object> circuitBreakerStats() {
+        return dictionaryClient.circuitBreakerStats();
+    }
+
+    private List<Map<String, String>> fetchAndCache(String key, String word) throws Exception {
+        // 持久化存储中仍在有效期内的结果直接放回内存缓存，过期的（如后台刷新）走网络
+        Optional<ExampleStore.StoredExamples> stored = exampleStore.find(key);
+        if (stored.isPresent()) {
+            List<Map<String, String>> restored = cacheStored(key, stored.get());
+            if (restored != null) {
+                storeHits.incrementAndGet();
+                return restored;
             }
         }
 
-        System.out.println("✅ 从在线API获取到 " + examples.size() + " 条例句");
+        List<Map<String, String>> examples = dictionaryClient.fetch(key);
+
+        List<Map<String, String>> immutable = examples.stream()
+                .map(Map::copyOf)
+                .collect(Collectors.toUnmodifiableList());
+        exampleCache.put(key, immutable, immutable.isEmpty() ? negativeTtlMillis : positiveTtlMillis);
+        exampleStore.save(key, immutable);
+        return immutable;
+    }
+
+    /**
+     * 启动后把最近抓取、仍在有效期内的结果预热到内存缓存
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpFromStore() {
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(Math.max(positiveTtlMillis, negativeTtlMillis)));
+            int[] warmed = {0};
+            int scanned = exampleStore.loadRecent(since, warmLoadMax, (key, stored) -> {
+                if (cacheStored(key, stored) != null) {
+                    warmed[0]++;
+                }
+            });
+            System.out.println("🔥 在线例句缓存预热完成: 读取 " + scanned + " 条，载入 " + warmed[0] + " 条");
+        } catch (Exception e) {
+            System.err.println("⚠️ 在线例句缓存预热失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 按剩余有效期写入内存缓存
+     * @return 写入缓存的不可变列表；已过期时返回 null，不写入
+     */
+    private List<Map<String, String>> cacheStored(String key, ExampleStore.StoredExamples stored) {
+        List<Map<String, String>> examples = stored.getExamples().stream()
+                .map(Map::copyOf)
+                .collect(Collectors.toUnmodifiableList());
+        long ageMillis = Duration.between(stored.getFetchedAt(), LocalDateTime.now()).toMillis();
+        long remaining = (examples.isEmpty() ? negativeTtlMillis : positiveTtlMillis) - ageMillis;
+        if (remaining <= 0) {
+            return null;
+        }
+        exampleCache.put(key, examples, remaining);
         return examples;
     }
 
+    private void refreshInBackground(String key, String word) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    fetchShared(key, word);
+                } catch (Exception e) {
+                    // 刷新失败时保留旧值，直到宽限期结束
+                    System.err.println("后台刷新例句失败: " + word + " - " + e.getMessage());
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshingKeys.remove(key);
+        }
+    }
+
     /**
-     * 检查单词是否有例句
+     * 缓存 key：按单词所属语言规范化（英语为提取出的单词，统一小写）
      */
-    public boolean hasExamples(String word) {
-        return localExampleService.hasExamples(word);
+    public String normalizeKey(String word) {
+        return ExampleLanguage.detect(word).normalize(word);
     }
 
     /**
-     * 从单词字符串中提取纯英文单词
+     * 规范化后的单词是否已有未过期的在线缓存（包括负缓存）
      */
-    private String extractEnglishWord(String wordText) {
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("^([a-zA-Z]+)");
-        java.util.regex.Matcher matcher = pattern.matcher(wordText);
-        if (matcher.find()) {
-            return matcher.group(1);
+    public boolean isCached(String key) {
+        return exampleCache.containsFresh(key);
+    }
+
+    private static long weigh(List<Map<String, String>> examples) {
+        long weight = 64;
+        for (Map<String, String> example : examples) {
+            for (String value : example.values()) {
+                weight += 48 + (value != null ? value.length() * 2L : 0);
+            }
         }
-        return wordText;
+        return weight;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+        batchExecutor.shutdownNow();
+    }
+
+    /**
+     * 检查单词是否有例句
+     */
+    public boolean hasExamples(String word) {
+        return localExampleService.hasExamples(word);
     }
 }
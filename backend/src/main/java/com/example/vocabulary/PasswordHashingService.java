@@ -0,0 +1,117 @@
+package com.example.vocabulary;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 哈希在独立的有界线程池中执行，不占用 Tomcat 请求线程；
+ * 队列已满时立即拒绝（调用方返回 503），避免登录高峰拖慢其他接口
+ */
+@Service
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int strength;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong rehashed = new AtomicLong();
+    // 排队等待时间和哈希计算时间
+    private final LatencyHistogram waitLatency = new LatencyHistogram();
+    private final LatencyHistogram hashLatency = new LatencyHistogram();
+
+    public PasswordHashingService(@Value("${vocabulary.auth.bcrypt.strength:10}") int strength,
+                                  @Value("${vocabulary.auth.hashing.threads:0}") int threads,
+                                  @Value("${vocabulary.auth.hashing.queue-capacity:64}") int queueCapacity) {
+        this.strength = strength;
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        // 默认留一半 CPU 给其他请求
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 已保存的哈希强度低于当前配置时需要重新哈希
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public void recordRehash() {
+        rehashed.incrementAndGet();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("strength", strength);
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", executor.getCompletedTaskCount());
+        stats.put("rejected", rejected.get());
+        stats.put("rehashed", rehashed.get());
+        stats.put("waitLatency", waitLatency.stats());
+        stats.put("hashLatency", hashLatency.stats());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                waitLatency.record((startedAt - submittedAt) / 1_000_000);
+                try {
+                    return task.get();
+                } finally {
+                    hashLatency.record((System.nanoTime() - startedAt) / 1_000_000);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new SaturatedException());
+        }
+    }
+
+    /**
+     * 哈希线程池和队列都已满
+     */
+    public static class SaturatedException extends RuntimeException {
+        public SaturatedException() {
+            super("密码哈希线程池已满");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.vocabulary;
+
+import org.apache.hc.core5.concurrent.Cancellable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一次逻辑请求发出的 HTTP 请求，可以从其他线程中止：中断线程打断不了 HttpClient 的阻塞读，
+ * 需要直接取消 HTTP 请求本身，连接被关闭后线程立即返回，而不是等到读超时。
+ * 绑定到当前线程后，AbortableRequestFactory 创建的请求都会登记到该句柄
+ */
+public final class RequestAbortHandle {
+
+    private static final ThreadLocal<RequestAbortHandle> CURRENT = new ThreadLocal<>();
+
+    private final List<Cancellable> requests = new ArrayList<>();
+    private boolean aborted;
+
+    public void bind() {
+        CURRENT.set(this);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    static RequestAbortHandle current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 登记请求；已经中止时立即取消
+     */
+    void register(Cancellable request) {
+        synchronized (this) {
+            if (!aborted) {
+                requests.add(request);
+                return;
+            }
+        }
+        request.cancel();
+    }
+
+    public void abort() {
+        List<Cancellable> toCancel;
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            toCancel = new ArrayList<>(requests);
+            requests.clear();
+        }
+        for (Cancellable request : toCancel) {
+            request.cancel();
+        }
+    }
+}
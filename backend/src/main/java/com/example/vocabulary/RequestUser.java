@@ -0,0 +1,56 @@
+package com.example.vocabulary;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 当前请求的登录用户：由 TokenAuthFilter 校验令牌后写入请求属性
+ */
+public final class RequestUser {
+
+    public static final String ATTRIBUTE = RequestUser.class.getName() + ".userId";
+
+    // 未携带令牌且配置允许旧客户端时由 TokenAuthFilter 写入
+    public static final String LEGACY_ATTRIBUTE = RequestUser.class.getName() + ".legacy";
+
+    private RequestUser() {
+    }
+
+    /**
+     * @return 令牌中的用户ID；请求未携带令牌时为 null
+     */
+    public static Long current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object userId = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return userId instanceof Long ? (Long) userId : null;
+    }
+
+    /**
+     * 携带令牌时只使用令牌中的用户ID，忽略请求中的 userId 参数；
+     * 没有令牌时仅在开启 vocabulary.auth.legacy-user-id 时使用旧客户端传入的 userId
+     * @return 无法确定用户时返回 null，调用方应返回 401
+     */
+    public static Long resolve(Long legacyUserId) {
+        Long userId = current();
+        if (userId != null) {
+            return userId;
+        }
+        return isLegacyAllowed() ? legacyUserId : null;
+    }
+
+    private static boolean isLegacyAllowed() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && Boolean.TRUE.equals(attributes.getAttribute(LEGACY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    /**
+     * 该用户ID是否已由令牌证明（令牌只签发给存在的用户，无需再查询数据库）
+     */
+    public static boolean isVerified(Long userId) {
+        return userId != null && userId.equals(current());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/review")
+@CrossOrigin(origins = "*")
+public class ReviewController {
+
+    private static final int DEFAULT_DUE_LIMIT = 20;
+    private static final int MAX_DUE_LIMIT = 200;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    /**
+     * 获取到期需要复习的单词，只读取到期部分
+     */
+    @GetMapping("/due")
+    public ResponseEntity<?> getDueReviews(@RequestParam(required = false) Long userId,
+                                           @RequestParam(required = false) Integer limit) {
+        userId = RequestUser.resolve(userId);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+
+        try {
+            int size = limit == null || limit <= 0 ? DEFAULT_DUE_LIMIT : Math.min(limit, MAX_DUE_LIMIT);
+            List<ReviewItemView> items = reviewService.findDue(userId, size);
+
+            Map<String, Object> resp = new HashMap<>();
+            resp.put("items", items);
+            resp.put("dueCount", reviewService.countDue(userId));
+            return ResponseEntity.ok(resp);
+        } catch (Exception e) {
+            System.err.println("❌ 获取复习队列失败: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("获取复习队列失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 提交一次复习结果（quality 0-5），返回新的调度状态
+     */
+    @PostMapping("/{id}")
+    public ResponseEntity<?> submitReview(@PathVariable Long id,
+                                          @RequestParam(required = false) Long userId,
+                                          @RequestParam int quality) {
+        userId = RequestUser.resolve(userId);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+
+        if (quality < ReviewService.MIN_QUALITY || quality > ReviewService.MAX_QUALITY) {
+            return ResponseEntity.badRequest().body("quality 必须在 0-5 之间");
+        }
+
+        try {
+            Optional<ReviewItemView> result = reviewService.recordReview(userId, id, quality);
+            if (result.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("单词不存在！");
+            }
+            return ResponseEntity.ok(result.get());
+        } catch (Exception e) {
+            System.err.println("❌ 提交复习结果失败: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("提交复习结果失败: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.vocabulary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 复习队列中单词的只读投影，包含 SM-2 调度状态
+ */
+public class ReviewItemView {
+    private final Long id;
+    private final String word;
+    private final String meaning;
+    private final Integer rememberedCount;
+    private final LocalDateTime nextReviewAt;
+    private final Double easeFactor;
+    private final Integer intervalDays;
+    private final Integer repetitions;
+
+    public ReviewItemView(Long id, String word, String meaning, Integer rememberedCount,
+                          LocalDateTime nextReviewAt, Double easeFactor, Integer intervalDays, Integer repetitions) {
+        this.id = id;
+        this.word = word;
+        this.meaning = meaning;
+        this.rememberedCount = rememberedCount != null ? rememberedCount : 0;
+        this.nextReviewAt = nextReviewAt;
+        this.easeFactor = easeFactor != null ? easeFactor : ReviewService.INITIAL_EASE_FACTOR;
+        this.intervalDays = intervalDays != null ? intervalDays : 0;
+        this.repetitions = repetitions != null ? repetitions : 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public String getMeaning() {
+        return meaning;
+    }
+
+    public Integer getRememberedCount() {
+        return rememberedCount;
+    }
+
+    public LocalDateTime getNextReviewAt() {
+        return nextReviewAt;
+    }
+
+    public Double getEaseFactor() {
+        return easeFactor;
+    }
+
+    public Integer getIntervalDays() {
+        return intervalDays;
+    }
+
+    public Integer getRepetitions() {
+        return repetitions;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 基于 SM-2 算法的间隔重复调度
+ */
+@Service
+public class ReviewService {
+
+    public static final double INITIAL_EASE_FACTOR = 2.5;
+    public static final int MIN_QUALITY = 0;
+    public static final int MAX_QUALITY = 5;
+
+    private static final double MIN_EASE_FACTOR = 1.3;
+
+    // 作答质量达到 3 视为记住
+    private static final int PASSING_QUALITY = 3;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 启动时为旧数据补齐调度字段，使其能被到期查询命中
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMissingSchedules() {
+        try {
+            int updated = itemRepository.initializeMissingReviewSchedules(LocalDateTime.now(), INITIAL_EASE_FACTOR);
+            if (updated > 0) {
+                System.out.println("✅ 已为 " + updated + " 个单词初始化复习计划");
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ 初始化复习计划失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取到期的前 limit 个单词（按到期时间排序）
+     */
+    public List<ReviewItemView> findDue(Long userId, int limit) {
+        return itemRepository.findDueReviews(userId, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    public long countDue(Long userId) {
+        return itemRepository.countDueReviews(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 记录一次复习结果并计算下次复习时间
+     * @param quality 作答质量 0-5（0 完全忘记，5 轻松记住）
+     * @return 更新后的调度状态；单词不存在或不属于该用户时为空
+     */
+    @Transactional
+    public Optional<ReviewItemView> recordReview(Long userId, Long itemId, int quality) {
+        Optional<Item> itemOptional = itemRepository.findForReview(itemId, userId);
+        if (itemOptional.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Item item = itemOptional.get();
+        schedule(item, quality, LocalDateTime.now());
+        eventPublisher.publishEvent(new WordsChangedEvent(userId));
+
+        return Optional.of(new ReviewItemView(item.getId(), item.getWord(), item.getMeaning(),
+                item.getRememberedCount(), item.getNextReviewAt(), item.getEaseFactor(),
+                item.getIntervalDays(), item.getRepetitions()));
+    }
+
+    /**
+     * SM-2：答对时间隔依次为 1 天、6 天、上次间隔 × 难度系数；答错则从头开始
+     */
+    static void schedule(Item item, int quality, LocalDateTime now) {
+        int repetitions = item.getRepetitions() != null ? item.getRepetitions() : 0;
+        int intervalDays = item.getIntervalDays() != null ? item.getIntervalDays() : 0;
+        double easeFactor = item.getEaseFactor() != null ? item.getEaseFactor() : INITIAL_EASE_FACTOR;
+
+        if (quality >= PASSING_QUALITY) {
+            if (repetitions == 0) {
+                intervalDays = 1;
+            } else if (repetitions == 1) {
+                intervalDays = 6;
+            } else {
+                intervalDays = (int) Math.round(intervalDays * easeFactor);
+            }
+            repetitions++;
+
+            int rememberedCount = item.getRememberedCount() != null ? item.getRememberedCount() : 0;
+            item.setRememberedCount(rememberedCount + 1);
+        } else {
+            repetitions = 0;
+            intervalDays = 1;
+        }
+
+        int distance = MAX_QUALITY - quality;
+        easeFactor = Math.max(MIN_EASE_FACTOR, easeFactor + (0.1 - distance * (0.08 + distance * 0.02)));
+
+        item.setRepetitions(repetitions);
+        item.setIntervalDays(intervalDays);
+        item.setEaseFactor(easeFactor);
+        item.setNextReviewAt(now.plusDays(intervalDays));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.vocabulary;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 校验 Authorization: Bearer 令牌，把用户ID写入请求属性（见 RequestUser）。
+ * 令牌无效或过期时返回 401；未携带令牌的请求照常放行，需要登录的接口由控制器返回 401。
+ * 迁移期间可开启 vocabulary.auth.legacy-user-id.enabled，允许未携带令牌的旧客户端使用 userId 参数
+ */
+@Component
+public class TokenAuthFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Value("${vocabulary.auth.legacy-user-id.enabled:false}")
+    private boolean legacyUserIdEnabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/") || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            Long userId = tokenService.verify(header.substring(BEARER_PREFIX.length()).trim());
+            if (userId == null) {
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                response.setHeader("Access-Control-Allow-Origin", "*");
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getOutputStream().write("登录已过期，请重新登录".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            request.setAttribute(RequestUser.ATTRIBUTE, userId);
+        } else if (legacyUserIdEnabled) {
+            request.setAttribute(RequestUser.LEGACY_ATTRIBUTE, Boolean.TRUE);
+        }
+        chain.doFilter(request, response);
+    }
+}
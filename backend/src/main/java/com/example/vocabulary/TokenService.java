@@ -0,0 +1,125 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 无状态登录令牌：{kid}.{userId}.{过期时间(秒)}.{HMAC-SHA256 签名}，校验时不访问数据库。
+ * 密钥轮换：vocabulary.auth.token.keys 中第一个密钥用于签发，其余密钥仍可校验旧令牌
+ */
+@Component
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, SigningKey> keys = new LinkedHashMap<>();
+    private final SigningKey activeKey;
+    private final long ttlSeconds;
+
+    public TokenService(@Value("${vocabulary.auth.token.keys:}") String keyConfig,
+                        @Value("${vocabulary.auth.token.ttl-hours:72}") long ttlHours) {
+        for (String entry : keyConfig.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                continue;
+            }
+            String kid = entry.substring(0, separator).trim();
+            byte[] secret = entry.substring(separator + 1).trim().getBytes(StandardCharsets.UTF_8);
+            if (secret.length < 32) {
+                System.err.println("⚠️ 令牌密钥 " + kid + " 少于 32 字节，建议使用更长的随机密钥");
+            }
+            keys.put(kid, new SigningKey(kid, secret));
+        }
+        if (keys.isEmpty()) {
+            // 未配置密钥时使用随机密钥：重启后旧令牌失效，需要重新登录
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            keys.put("auto", new SigningKey("auto", secret));
+            System.err.println("⚠️ 未配置 vocabulary.auth.token.keys，使用临时随机密钥");
+        }
+        this.activeKey = keys.values().iterator().next();
+        this.ttlSeconds = ttlHours * 3600;
+    }
+
+    /**
+     * 为用户签发令牌
+     */
+    public String issue(Long userId) {
+        long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+        String payload = activeKey.kid + "." + userId + "." + expiresAt;
+        return payload + "." + ENCODER.encodeToString(activeKey.sign(payload));
+    }
+
+    /**
+     * 校验令牌
+     * @return 令牌中的用户ID；格式错误、签名不符、密钥已移除或已过期时返回 null
+     */
+    public Long verify(String token) {
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart <= 0) {
+            return null;
+        }
+        String payload = token.substring(0, signatureStart);
+        String[] parts = payload.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        SigningKey key = keys.get(parts[0]);
+        if (key == null) {
+            return null;
+        }
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(signature, key.sign(payload))) {
+                return null;
+            }
+            if (Long.parseLong(parts[2]) < System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            return Long.parseLong(parts[1]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    private static class SigningKey {
+        final String kid;
+        final SecretKeySpec secret;
+        // Mac 不是线程安全的，每个线程复用自己的实例
+        final ThreadLocal<Mac> mac;
+
+        SigningKey(String kid, byte[] secret) {
+            this.kid = kid;
+            this.secret = new SecretKeySpec(secret, ALGORITHM);
+            this.mac = ThreadLocal.withInitial(() -> {
+                try {
+                    Mac instance = Mac.getInstance(ALGORITHM);
+                    instance.init(this.secret);
+                    return instance;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("无法初始化 " + ALGORITHM, e);
+                }
+            });
+        }
+
+        byte[] sign(String payload) {
+            return mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
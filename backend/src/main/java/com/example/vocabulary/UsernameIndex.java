@@ -0,0 +1,147 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 已注册用户名的布隆过滤器，用于注册时的“用户名是否可用”检查：
+ * 过滤器中没有的用户名一定可用，无需查询数据库；可能存在时再查库确认。
+ * 启动时从 users 表构建，注册成功后加入；用户名按小写保存，与 MySQL 默认的不区分大小写排序规则一致
+ */
+@Component
+public class UsernameIndex {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long minCapacity;
+    private final double falsePositiveRate;
+
+    // 构建完成前为 null，此时所有查询都回退到数据库
+    private volatile BloomFilter filter;
+
+    // 构建期间注册的用户名，构建完成后补加到新过滤器
+    private final List<String> pending = new ArrayList<>();
+    private boolean building;
+
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong definitelyFree = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private volatile long lastBuildMillis;
+
+    public UsernameIndex(UserRepository userRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${vocabulary.auth.username-index.min-capacity:100000}") long minCapacity,
+                         @Value("${vocabulary.auth.username-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        synchronized (this) {
+            if (building) {
+                return;
+            }
+            building = true;
+            pending.clear();
+        }
+        Thread thread = new Thread(this::build, "username-index-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return false 表示一定没有这个用户名；true 表示可能有，需要查库确认
+     */
+    public boolean mightExist(String username) {
+        checks.incrementAndGet();
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(normalize(username))) {
+            return true;
+        }
+        definitelyFree.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 注册成功后调用；元素超过容量时按新的用户数重建
+     */
+    public void add(String username) {
+        String key = normalize(username);
+        boolean saturated;
+        synchronized (this) {
+            if (filter != null) {
+                filter.put(key);
+            }
+            if (building) {
+                pending.add(key);
+            }
+            saturated = filter != null && filter.isSaturated();
+        }
+        if (saturated) {
+            buildInBackground();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        BloomFilter current = filter;
+        stats.put("ready", current != null);
+        stats.put("checks", checks.get());
+        stats.put("definitelyFree", definitelyFree.get());
+        stats.put("rebuilds", rebuilds.get());
+        stats.put("lastBuildMillis", lastBuildMillis);
+        if (current != null) {
+            stats.put("filter", current.stats());
+        }
+        return stats;
+    }
+
+    private void build() {
+        long start = System.currentTimeMillis();
+        try {
+            // 容量留出一倍余量，避免用户增长后很快需要重建
+            long capacity = Math.max(minCapacity, userRepository.count() * 2);
+            BloomFilter fresh = new BloomFilter(capacity, falsePositiveRate);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                    usernames.forEach(username -> fresh.put(normalize(username)));
+                }
+            });
+            synchronized (this) {
+                pending.forEach(fresh::put);
+                pending.clear();
+                filter = fresh;
+                building = false;
+            }
+            rebuilds.incrementAndGet();
+            lastBuildMillis = System.currentTimeMillis() - start;
+            System.out.println("👤 用户名索引构建完成: " + fresh.stats() + ", 用时 " + lastBuildMillis + "ms");
+        } catch (Exception e) {
+            synchronized (this) {
+                pending.clear();
+                building = false;
+            }
+            System.err.println("⚠️ 用户名索引构建失败，用户名检查将直接查询数据库: " + e.getMessage());
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+}
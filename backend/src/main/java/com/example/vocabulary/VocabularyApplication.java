@@ -1,5 +1,14 @@
 package com.example.vocabulary;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -12,8 +21,37 @@ public class VocabularyApplication {
 		SpringApplication.run(VocabularyApplication.class, args);
 	}
 
+	/**
+	 * 外部词典API使用的 HTTP 客户端：长连接池 + 严格的连接/读取超时，慢上游不会无限占用请求线程
+	 */
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public RestTemplate restTemplate(
+			@Value("${vocabulary.http.max-connections:50}") int maxConnections,
+			@Value("${vocabulary.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+			@Value("${vocabulary.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+			@Value("${vocabulary.http.read-timeout-ms:2000}") long readTimeoutMs,
+			@Value("${vocabulary.http.pool-acquire-timeout-ms:500}") long poolAcquireTimeoutMs) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnectionsPerRoute)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+						.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+						.setTimeToLive(TimeValue.ofMinutes(5))
+						.build())
+				.build();
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+						.setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.ofSeconds(30))
+				.build();
+
+		// 对冲落败时可以从其他线程中止请求（见 HedgedDictionaryClient）
+		return new RestTemplate(new AbortableRequestFactory(httpClient));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.example.vocabulary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Wiktionary REST API: https://en.wiktionary.org/api/rest_v1/page/definition/{word}
+ * 例句是 HTML 片段，去掉标签后使用
+ */
+@Component
+public class WiktionaryProvider implements DictionaryProvider {
+
+    private static final int MAX_EXAMPLES = 5;
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${vocabulary.examples.online.wiktionary.base-url:https://en.wiktionary.org/api/rest_v1/page/definition/}")
+    private String baseUrl;
+
+    @Override
+    public String getName() {
+        return "wiktionary";
+    }
+
+    @Override
+    public List<Map<String, String>> fetchExamples(String word) throws Exception {
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.getForEntity(baseUrl + word, String.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            return new ArrayList<>();
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new RuntimeException("API调用失败");
+        }
+
+        List<Map<String, String>> examples = new ArrayList<>();
+
+        // 只取英语词条：{ "en": [ { "definitions": [ { "examples": ["<i>...</i>"] } ] } ] }
+        JsonNode entries = objectMapper.readTree(response.getBody()).get("en");
+        if (entries == null || !entries.isArray()) {
+            return examples;
+        }
+        for (JsonNode entry : entries) {
+            JsonNode definitions = entry.get("definitions");
+            if (definitions == null || !definitions.isArray()) {
+                continue;
+            }
+            for (JsonNode def : definitions) {
+                JsonNode exampleNodes = def.get("examples");
+                if (exampleNodes == null || !exampleNodes.isArray()) {
+                    continue;
+                }
+                for (JsonNode exampleNode : exampleNodes) {
+                    String english = stripHtml(exampleNode.asText());
+                    if (english.isEmpty()) {
+                        continue;
+                    }
+                    Map<String, String> exampleMap = new HashMap<>();
+                    exampleMap.put("english", english);
+                    exampleMap.put("chinese", "[需要翻译] " + english);
+                    examples.add(exampleMap);
+                    if (examples.size() >= MAX_EXAMPLES) {
+                        return examples;
+                    }
+                }
+            }
+        }
+        return examples;
+    }
+
+    private static String stripHtml(String html) {
+        return WHITESPACE.matcher(HTML_TAG.matcher(html).replaceAll("")).replaceAll(" ").trim();
+    }
+}
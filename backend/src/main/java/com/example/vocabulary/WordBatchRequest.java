@@ -0,0 +1,32 @@
+package com.example.vocabulary;
+
+import java.util.List;
+
+public class WordBatchRequest {
+    private Long userId;
+    private List<WordRequest> words;
+
+    public WordBatchRequest() {
+    }
+
+    public WordBatchRequest(Long userId, List<WordRequest> words) {
+        this.userId = userId;
+        this.words = words;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<WordRequest> getWords() {
+        return words;
+    }
+
+    public void setWords(List<WordRequest> words) {
+        this.words = words;
+    }
+}
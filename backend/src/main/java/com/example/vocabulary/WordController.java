@@ -2,12 +2,26 @@ package com.example.vocabulary;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -15,6 +29,16 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class WordController {
 
+    // 游标分页默认/最大每页条数
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // 记住少于3次需要复习
+    private static final int REVIEW_THRESHOLD = 3;
+
+    // 批量获取例句时单次最多的单词数
+    private static final int MAX_EXAMPLE_BATCH_SIZE = 200;
+
     @Autowired
     private ItemRepository itemRepository;
 
@@ -24,52 +48,222 @@ public class WordController {
     @Autowired
     private OnlineExampleService onlineExampleService;
 
+    @Autowired
+    private ExampleSentenceService exampleSentenceService;
+
+    @Autowired
+    private ExampleResponseCache exampleResponseCache;
+
+    @Autowired
+    private WordImportService wordImportService;
+
+    @Autowired
+    private WordExportService wordExportService;
+
+    @Autowired
+    private WordListCache wordListCache;
+
+    @Autowired
+    private WordVersionTracker wordVersionTracker;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 是否允许未登录时读取所有用户的单词（流式全表和跨用户分页），默认关闭
+    @Value("${vocabulary.words.public-list.enabled:false}")
+    private boolean publicListEnabled;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * 首页获取所有用户的单词：未携带令牌且不带任何参数时流式输出，不在内存中构建完整列表；
+     * 携带令牌的请求由 getWords 按令牌中的用户返回
+     */
+    @GetMapping(value = "/words", params = {"!userId", "!afterId", "!limit"}, headers = "!Authorization")
+    public ResponseEntity<?> streamAllWords() {
+        if (!publicListEnabled) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(wordExportService.streamAllWords());
+    }
+
+    /**
+     * 首页获取所有用户单词的完整信息（流式输出）
+     */
+    @GetMapping(value = "/words/full", params = {"!userId", "!afterId", "!limit"}, headers = "!Authorization")
+    public ResponseEntity<?> streamAllWordsFull() {
+        if (!publicListEnabled) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(wordExportService.streamAllItems());
+    }
+
+    /**
+     * 获取单词列表；传入 afterId 或 limit 时按游标分页返回 { items, nextCursor, hasMore }
+     */
     @GetMapping("/words")
-    public List<String> getWords(@RequestParam(required = false) Long userId) {
+    public ResponseEntity<?> getWords(@RequestParam(required = false) Long userId,
+                                      @RequestParam(required = false) Long afterId,
+                                      @RequestParam(required = false) Integer limit,
+                                      WebRequest webRequest) {
+        Long requestedUserId = userId;
+        userId = RequestUser.resolve(userId);
+        if (userId == null && !isPublicListAllowed(requestedUserId)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
         try {
-            List<Item> items;
-            
-            if (userId == null) {
-                // userId 为 null 时，返回所有单词（用于首页）
-                items = itemRepository.findAll();
-                System.out.println("📚 获取所有单词列表，总数: " + items.size());
-            } else {
+            // 单词表未变化时直接返回 304，不访问数据库
+            String etag = userId != null ? wordVersionTracker.etag(userId, variant("words", afterId, limit)) : null;
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            // 所有用户的单词只通过流式接口或分页返回，不在内存中加载全表
+            if (userId == null || afterId != null || limit != null) {
                 // 验证用户存在
-                if (!userRepository.existsById(userId)) {
-                    return List.of();
+                if (userId != null && !userExists(userId)) {
+                    return ResponseEntity.ok(List.of());
                 }
-                items = itemRepository.findByUserIdOrderByIdAsc(userId);
-                System.out.println("📚 获取用户 " + userId + " 的单词列表，数量: " + items.size());
+                return okWithEtag(etag, loadPage(userId, afterId, limit, WordView::getWord));
             }
-            
-            return items.stream()
-                    .map(Item::getWord)
-                    .collect(Collectors.toList());
+
+            List<WordView> userItems = findUserWords(userId);
+            if (userItems == null) {
+                return ResponseEntity.ok(List.of());
+            }
+            return okWithEtag(etag, userItems.stream()
+                    .map(WordView::getWord)
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             System.err.println("❌ 获取单词列表失败: " + e.getMessage());
-            return List.of();
+            return ResponseEntity.ok(List.of());
         }
     }
 
+    /**
+     * 获取完整单词信息；传入 afterId 或 limit 时按游标分页返回 { items, nextCursor, hasMore }
+     */
     @GetMapping("/words/full")
-    public List<Item> getWordsFull(@RequestParam(required = false) Long userId) {
-        if (userId == null) {
-            // userId 为 null 时，返回所有单词（不过滤）
-            List<Item> allItems = itemRepository.findAll();
-            System.out.println("📚 获取所有单词列表，总数: " + allItems.size());
-            return allItems;
+    public ResponseEntity<?> getWordsFull(@RequestParam(required = false) Long userId,
+                                          @RequestParam(required = false) Long afterId,
+                                          @RequestParam(required = false) Integer limit,
+                                          WebRequest webRequest) {
+        Long requestedUserId = userId;
+        userId = RequestUser.resolve(userId);
+        if (userId == null && !isPublicListAllowed(requestedUserId)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+        }
+        // 单词表未变化时直接返回 304，不访问数据库
+        String etag = userId != null ? wordVersionTracker.etag(userId, variant("full", afterId, limit)) : null;
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
         }
 
-        // 验证用户存在
-        if (!userRepository.existsById(userId)) {
-            return List.of();
+        // 所有用户的单词只通过流式接口或分页返回，不在内存中加载全表
+        if (userId == null || afterId != null || limit != null) {
+            // 验证用户存在
+            if (userId != null && !userExists(userId)) {
+                return ResponseEntity.ok(List.of());
+            }
+            return okWithEtag(etag, loadPage(userId, afterId, limit, view -> view));
         }
 
-        List<Item> userItems = itemRepository.findByUserIdOrderByIdAsc(userId);
-        System.out.println("📚 获取用户 " + userId + " 的单词列表，数量: " + userItems.size());
-        return userItems;
+        List<WordView> userItems = findUserWords(userId);
+        if (userItems == null) {
+            return ResponseEntity.ok(List.of());
+        }
+        return okWithEtag(etag, userItems);
+    }
+
+    /**
+     * 未确定用户时只有开启公开单词列表、且请求本身没有指定 userId 才返回所有用户的单词；
+     * 指定了 userId 但未被采用（没有令牌）时按未登录处理
+     */
+    private boolean isPublicListAllowed(Long requestedUserId) {
+        return publicListEnabled && requestedUserId == null;
+    }
+
+    /**
+     * ETag 中的表示形式：完整列表与每一页（游标、条数）的响应体不同，ETag 也必须不同
+     */
+    private static String variant(String resource, Long afterId, Integer limit) {
+        if (afterId == null && limit == null) {
+            return resource + "-all";
+        }
+        long cursor = afterId != null ? afterId : 0L;
+        return resource + "-p" + cursor + "-" + pageSize(limit);
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 带 ETag 的 200 响应；no-cache 让客户端每次用 If-None-Match 重新验证
+     */
+    private ResponseEntity<?> okWithEtag(String etag, Object body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * 令牌已验证的用户视为存在，不再查询数据库
+     */
+    private boolean userExists(Long userId) {
+        return RequestUser.isVerified(userId) || userRepository.existsById(userId);
+    }
+
+    /**
+     * 令牌签名有效但用户已被删除时，写入会因外键约束失败；只在失败后查询一次数据库确认，
+     * 正常请求仍然不为校验用户多查一次
+     */
+    private boolean isDeletedUser(Long userId, DataIntegrityViolationException e) {
+        if (!RequestUser.isVerified(userId) || userRepository.existsById(userId)) {
+            return false;
+        }
+        System.out.println("❌ 令牌对应的用户不存在: " + userId + "（" + e.getMostSpecificCause().getMessage() + "）");
+        return true;
+    }
+
+    /**
+     * 从缓存读取用户的完整单词列表；未命中时校验用户并查询数据库，用户不存在返回 null
+     */
+    private List<WordView> findUserWords(Long userId) {
+        return wordListCache.getOrLoad(userId, () -> {
+            if (!userExists(userId)) {
+                return null;
+            }
+            List<WordView> userItems = itemRepository.findViewsByUserId(userId);
+            System.out.println("📚 获取用户 " + userId + " 的单词列表，数量: " + userItems.size());
+            return userItems;
+        });
+    }
+
+    /**
+     * 按 (user_id, id) 索引读取 id > afterId 的一页；多取一条用于判断是否还有下一页
+     */
+    private <T> WordPage<T> loadPage(Long userId, Long afterId, Integer limit, Function<WordView, T> mapper) {
+        long cursor = afterId != null ? afterId : 0L;
+        int pageSize = pageSize(limit);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<WordView> rows = userId == null
+                ? itemRepository.findViewPage(cursor, pageable)
+                : itemRepository.findViewPageByUserId(userId, cursor, pageable);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<WordView> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1).getId();
+
+        List<T> items = pageRows.stream().map(mapper).collect(Collectors.toList());
+        return new WordPage<>(items, hasMore ? nextCursor : null, hasMore);
     }
 
     @PostMapping("/words")
@@ -79,31 +273,37 @@ public class WordController {
 
             // 验证用户是否登录
             Object userIdObj = requestBody.get("userId");
-            if (userIdObj == null) {
-                System.out.println("❌ 用户未登录");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
-            }
-
-            Long userId;
+            Long legacyUserId = null;
             if (userIdObj instanceof Number) {
-                userId = ((Number) userIdObj).longValue();
+                legacyUserId = ((Number) userIdObj).longValue();
             } else if (userIdObj instanceof String) {
-                userId = Long.parseLong((String) userIdObj);
-            } else {
+                legacyUserId = Long.parseLong((String) userIdObj);
+            } else if (userIdObj != null) {
                 System.out.println("❌ 用户ID格式错误: " + userIdObj.getClass());
                 return ResponseEntity.badRequest().body("用户ID格式错误");
             }
 
+            Long userId = RequestUser.resolve(legacyUserId);
+            if (userId == null) {
+                System.out.println("❌ 用户未登录");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+            }
+
             System.out.println("👤 验证用户ID: " + userId);
 
-            // 验证用户存在
-            Optional<User> userOptional = userRepository.findById(userId);
-            if (userOptional.isEmpty()) {
-                System.out.println("❌ 用户不存在: " + userId);
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
+            // 验证用户存在；令牌已证明用户存在时直接使用引用，不查询数据库
+            User user;
+            if (RequestUser.isVerified(userId)) {
+                user = userRepository.getReferenceById(userId);
+            } else {
+                Optional<User> userOptional = userRepository.findById(userId);
+                if (userOptional.isEmpty()) {
+                    System.out.println("❌ 用户不存在: " + userId);
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
+                }
+                user = userOptional.get();
             }
-            User user = userOptional.get();
-            System.out.println("✅ 用户验证成功: " + user.getUsername());
+            System.out.println("✅ 用户验证成功: " + userId);
 
             // 提取单词数据
             Object wordObj = requestBody.get("word");
@@ -127,8 +327,20 @@ public class WordController {
                 System.out.println("📝 中文意思: " + item.getMeaning());
             }
 
-            Item savedItem = itemRepository.save(item);
+            Item savedItem;
+            try {
+                savedItem = itemRepository.save(item);
+            } catch (DataIntegrityViolationException e) {
+                if (isDeletedUser(userId, e)) {
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
+                }
+                throw e;
+            }
             System.out.println("✅ 单词保存成功，ID: " + savedItem.getId());
+            eventPublisher.publishEvent(new WordsChangedEvent(userId));
+
+            // 后台预取例句，翻卡片时不再等待网络
+            eventPublisher.publishEvent(new WordsAddedEvent(userId, List.of(word)));
 
             return ResponseEntity.ok("单词添加成功！");
         } catch (Exception e) {
@@ -139,15 +351,88 @@ public class WordController {
         }
     }
 
+    /**
+     * 批量添加单词：只校验一次用户，在同一事务内通过 JDBC batch 插入
+     */
+    @PostMapping("/words/batch")
+    public ResponseEntity<?> addWordsBatch(@RequestBody WordBatchRequest request) {
+        try {
+            Long userId = RequestUser.resolve(request.getUserId());
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+            }
+
+            // 验证用户存在
+            if (!userExists(userId)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
+            }
+
+            List<WordRequest> words = request.getWords();
+            if (words == null || words.isEmpty()) {
+                return ResponseEntity.badRequest().body("单词列表不能为空");
+            }
+            if (words.size() > WordImportService.MAX_BATCH_SIZE) {
+                return ResponseEntity.badRequest().body("单次最多导入 " + WordImportService.MAX_BATCH_SIZE + " 个单词");
+            }
+
+            System.out.println("📥 收到批量添加单词请求，用户 " + userId + "，数量: " + words.size());
+
+            List<String> statuses;
+            try {
+                statuses = wordImportService.importWords(userId, words);
+            } catch (DataIntegrityViolationException e) {
+                if (isDeletedUser(userId, e)) {
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
+                }
+                throw e;
+            }
+
+            List<Map<String, Object>> results = new ArrayList<>(statuses.size());
+            int inserted = 0;
+            int duplicates = 0;
+            int invalid = 0;
+            for (int i = 0; i < statuses.size(); i++) {
+                String status = statuses.get(i);
+                if (WordImportService.STATUS_INSERTED.equals(status)) {
+                    inserted++;
+                } else if (WordImportService.STATUS_DUPLICATE.equals(status)) {
+                    duplicates++;
+                } else {
+                    invalid++;
+                }
+
+                Map<String, Object> result = new HashMap<>();
+                result.put("index", i);
+                result.put("word", words.get(i) != null ? words.get(i).getWord() : null);
+                result.put("status", status);
+                results.add(result);
+            }
+
+            Map<String, Object> resp = new HashMap<>();
+            resp.put("total", statuses.size());
+            resp.put("inserted", inserted);
+            resp.put("duplicates", duplicates);
+            resp.put("invalid", invalid);
+            resp.put("results", results);
+            return ResponseEntity.ok(resp);
+        } catch (Exception e) {
+            System.err.println("❌ 批量添加单词异常: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("批量添加单词失败: " + e.getMessage());
+        }
+    }
+
     @DeleteMapping("/words/{index}")
-    public ResponseEntity<String> deleteWord(@PathVariable int index, @RequestParam Long userId) {
+    public ResponseEntity<String> deleteWord(@PathVariable int index, @RequestParam(required = false) Long userId) {
+        userId = RequestUser.resolve(userId);
         try {
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
             }
 
             // 验证用户存在
-            if (!userRepository.existsById(userId)) {
+            if (!userExists(userId)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
             }
 
@@ -155,6 +440,7 @@ public class WordController {
             if (index >= 0 && index < userItems.size()) {
                 Item itemToDelete = userItems.get(index);
                 itemRepository.deleteById(itemToDelete.getId());
+                eventPublisher.publishEvent(new WordsChangedEvent(userId));
                 return ResponseEntity.ok("单词删除成功！");
             } else {
                 return ResponseEntity.badRequest().body("无效的索引！");
@@ -166,14 +452,15 @@ public class WordController {
     }
 
     @PostMapping("/words/remember/{index}")
-    public ResponseEntity<String> rememberWord(@PathVariable int index, @RequestParam Long userId) {
+    public ResponseEntity<String> rememberWord(@PathVariable int index, @RequestParam(required = false) Long userId) {
+        userId = RequestUser.resolve(userId);
         try {
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
             }
 
             // 验证用户存在
-            if (!userRepository.existsById(userId)) {
+            if (!userExists(userId)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("用户不存在");
             }
 
@@ -184,6 +471,7 @@ public class WordController {
                 Integer currentCount = item.getRememberedCount() != null ? item.getRememberedCount() : 0;
                 item.setRememberedCount(currentCount + 1);
                 itemRepository.save(item);
+                eventPublisher.publishEvent(new WordsChangedEvent(userId));
                 return ResponseEntity.ok("单词记住次数已更新！");
             } else {
                 return ResponseEntity.badRequest().body("无效的索引！");
@@ -194,45 +482,161 @@ public class WordController {
         }
     }
 
+    /**
+     * 按单词ID删除（单条 DELETE，不再加载整个单词列表）
+     */
+    @DeleteMapping("/words/id/{id}")
+    public ResponseEntity<String> deleteWordById(@PathVariable Long id, @RequestParam(required = false) Long userId) {
+        userId = RequestUser.resolve(userId);
+        try {
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+            }
+
+            // 条件中带 user_id，只能删除自己的单词
+            if (itemRepository.deleteByIdAndUserId(id, userId) == 0) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("单词不存在！");
+            }
+            eventPublisher.publishEvent(new WordsChangedEvent(userId));
+            return ResponseEntity.ok("单词删除成功！");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("删除单词失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 按单词ID增加记住次数（单条原子 UPDATE，多端同时点击不会丢失计数）
+     */
+    @PostMapping("/words/{id}/remember")
+    public ResponseEntity<String> rememberWordById(@PathVariable Long id, @RequestParam(required = false) Long userId) {
+        userId = RequestUser.resolve(userId);
+        try {
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("请先登录");
+            }
+
+            // 条件中带 user_id，只能更新自己的单词
+            if (itemRepository.incrementRememberedCount(id, userId) == 0) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("单词不存在！");
+            }
+            eventPublisher.publishEvent(new WordsChangedEvent(userId));
+            return ResponseEntity.ok("单词记住次数已更新！");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("更新记住次数失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 获取每个单词的学习统计；传入 afterId 或 limit 时按游标分页返回 { items, nextCursor, hasMore }
+     */
     @GetMapping("/words/stats")
-    public ResponseEntity<List<Map<String, Object>>> getLearningStats(@RequestParam Long userId) {
+    public ResponseEntity<?> getLearningStats(@RequestParam(required = false) Long userId,
+                                              @RequestParam(required = false) Long afterId,
+                                              @RequestParam(required = false) Integer limit,
+                                              WebRequest webRequest) {
+        userId = RequestUser.resolve(userId);
         try {
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
 
-            // 验证用户存在
-            if (!userRepository.existsById(userId)) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            // 单词表未变化时直接返回 304，不访问数据库
+            String etag = wordVersionTracker.etag(userId, variant("stats", afterId, limit));
+            if (webRequest.checkNotModified(etag)) {
+                return null;
             }
 
-            List<Item> userItems = itemRepository.findByUserIdOrderByIdAsc(userId);
+            if (afterId != null || limit != null) {
+                // 验证用户存在
+                if (!userExists(userId)) {
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                }
+                return okWithEtag(etag, loadPage(userId, afterId, limit, this::toStat));
+            }
+
+            List<WordView> userItems = findUserWords(userId);
+            if (userItems == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
 
             List<Map<String, Object>> stats = userItems.stream()
-                    .map(item -> {
-                        Map<String, Object> stat = new java.util.HashMap<>();
-                        stat.put("id", item.getId());
-                        stat.put("word", item.getWord());
-                        stat.put("meaning", item.getMeaning());
-                        stat.put("rememberedCount", item.getRememberedCount() != null ? item.getRememberedCount() : 0);
-                        // 根据记住次数判断是否需要重新学习
-                        Integer count = item.getRememberedCount() != null ? item.getRememberedCount() : 0;
-                        stat.put("needsReview", count < 3); // 记住少于3次需要复习
-                        return stat;
-                    })
+                    .map(this::toStat)
                     .collect(Collectors.toList());
 
-            return ResponseEntity.ok(stats);
+            return okWithEtag(etag, stats);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * 学习统计汇总：总数、已掌握数、待复习数以及记住次数分布，全部在数据库中 GROUP BY 计算
+     */
+    @GetMapping("/words/stats/summary")
+    public ResponseEntity<?> getLearningStatsSummary(@RequestParam(required = false) Long userId, WebRequest webRequest) {
+        userId = RequestUser.resolve(userId);
+        try {
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            // 单词表未变化时直接返回 304，不访问数据库
+            String etag = wordVersionTracker.etag(userId, "summary");
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            // 验证用户存在
+            if (!userExists(userId)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            // 每种记住次数一行，行数与单词总数无关
+            Map<Integer, Long> histogram = new TreeMap<>();
+            for (Object[] row : itemRepository.countByRememberedCount(userId)) {
+                int rememberedCount = row[0] != null ? ((Number) row[0]).intValue() : 0;
+                histogram.merge(rememberedCount, ((Number) row[1]).longValue(), Long::sum);
+            }
+
+            long total = 0;
+            long needsReview = 0;
+            for (Map.Entry<Integer, Long> entry : histogram.entrySet()) {
+                total += entry.getValue();
+                if (entry.getKey() < REVIEW_THRESHOLD) {
+                    needsReview += entry.getValue();
+                }
+            }
+
+            Map<String, Object> resp = new HashMap<>();
+            resp.put("total", total);
+            resp.put("mastered", total - needsReview);
+            resp.put("needsReview", needsReview);
+            resp.put("histogram", histogram);
+            return okWithEtag(etag, resp);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private Map<String, Object> toStat(WordView item) {
+        Map<String, Object> stat = new HashMap<>();
+        stat.put("id", item.getId());
+        stat.put("word", item.getWord());
+        stat.put("meaning", item.getMeaning());
+        stat.put("rememberedCount", item.getRememberedCount());
+        // 根据记住次数判断是否需要重新学习
+        stat.put("needsReview", item.getRememberedCount() < REVIEW_THRESHOLD);
+        return stat;
+    }
+
     /**
      * 获取单词例句（优先本地，失败时尝试在线免费API）
      */
     @PostMapping("/examples")
-    public ResponseEntity<?> getExamples(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> getExamples(@RequestBody Map<String, String> request,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
             String word = request.get("word");
             if (word == null || word.trim().isEmpty()) {
@@ -241,14 +645,29 @@ public class WordController {
 
             System.out.println("📖 请求获取例句: " + word);
 
-            // 从在线服务获取例句（优先本地，失败时使用API）
+            // 本地例句不会变化：每个单词只序列化一次，之后直接写出缓存的字节
+            ExampleResponseCache.EncodedResponse encoded = exampleResponseCache.get(word);
+            if (encoded == null) {
+                List<Map<String, String>> localExamples = exampleSentenceService.getExamples(word);
+                if (!localExamples.isEmpty()) {
+                    encoded = exampleResponseCache.encodeAndCache(word, localExamples);
+                }
+            }
+            if (encoded != null) {
+                return encodedExamples(encoded, acceptEncoding);
+            }
+
+            // 本地没有时从在线服务获取例句（缓存 / 在线API）
             List<Map<String, String>> examples = onlineExampleService.getExamples(word);
 
-            return ResponseEntity.ok(Map.of(
-                "word", word,
-                "examples", examples,
-                "hasExamples", !examples.isEmpty()
-            ));
+            // 同一 URL 的响应可能是 gzip（本地命中时），共享缓存需按 Accept-Encoding 区分
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(Map.of(
+                        "word", word,
+                        "examples", examples,
+                        "hasExamples", !examples.isEmpty()
+                    ));
         } catch (Exception e) {
             System.err.println("❌ 获取例句失败: " + e.getMessage());
             e.printStackTrace();
@@ -256,4 +675,56 @@ public class WordController {
                     .body("获取例句失败: " + e.getMessage());
         }
     }
+
+    private ResponseEntity<byte[]> encodedExamples(ExampleResponseCache.EncodedResponse encoded, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.getGzip() != null && ExampleResponseCache.acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.getGzip());
+        }
+        return builder.body(encoded.getJson());
+    }
+
+    /**
+     * 批量获取例句：一次请求预取整个学习会话的例句
+     * 返回 examples（单词 -> 例句）以及 hasExamples 位图（按 words 顺序，'1' 表示有例句）
+     */
+    @PostMapping("/examples/batch")
+    public ResponseEntity<?> getExamplesBatch(@RequestBody Map<String, List<String>> request) {
+        try {
+            List<String> requested = request.get("words");
+            if (requested == null || requested.isEmpty()) {
+                return ResponseEntity.badRequest().body("单词列表不能为空");
+            }
+            if (requested.size() > MAX_EXAMPLE_BATCH_SIZE) {
+                return ResponseEntity.badRequest().body("单次最多查询 " + MAX_EXAMPLE_BATCH_SIZE + " 个单词");
+            }
+
+            List<String> words = requested.stream()
+                    .filter(word -> word != null && !word.trim().isEmpty())
+                    .map(String::trim)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            Map<String, List<Map<String, String>>> examples = onlineExampleService.getExamplesBatch(words);
+
+            StringBuilder hasExamples = new StringBuilder(words.size());
+            for (String word : words) {
+                List<Map<String, String>> wordExamples = examples.get(word);
+                hasExamples.append(wordExamples != null && !wordExamples.isEmpty() ? '1' : '0');
+            }
+
+            Map<String, Object> resp = new HashMap<>();
+            resp.put("words", words);
+            resp.put("examples", examples);
+            resp.put("hasExamples", hasExamples.toString());
+            return ResponseEntity.ok(resp);
+        } catch (Exception e) {
+            System.err.println("❌ 批量获取例句失败: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("批量获取例句失败: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package com.example.vocabulary;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 全表单词导出：边读边写 JSON 数组，内存占用与行数无关
+ */
+@Service
+public class WordExportService {
+
+    // 每写出多少行刷新一次输出
+    private static final int FLUSH_INTERVAL = 500;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 以 JSON 字符串数组输出所有单词
+     */
+    public StreamingResponseBody streamAllWords() {
+        return out -> writeAll(out, itemRepository::streamAllWords, JsonGenerator::writeString);
+    }
+
+    /**
+     * 以 JSON 对象数组输出所有单词的完整信息（WordView 投影，不经过持久化上下文）
+     */
+    public StreamingResponseBody streamAllItems() {
+        return out -> writeAll(out, itemRepository::streamAllViews, JsonGenerator::writeObject);
+    }
+
+    private <T> void writeAll(OutputStream out, Supplier<Stream<T>> source, RowWriter<T> writer) {
+        // 流式查询需要在只读事务内保持连接和游标打开
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+                 Stream<T> rows = source.get()) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+
+                long count = 0;
+                Iterator<T> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(generator, iterator.next());
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+
+                generator.writeEndArray();
+                System.out.println("📚 流式输出所有单词，总数: " + count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(JsonGenerator generator, T row) throws IOException;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class WordImportService {
+
+    public static final String STATUS_INSERTED = "inserted";
+    public static final String STATUS_DUPLICATE = "duplicate";
+    public static final String STATUS_INVALID = "invalid";
+
+    // 单次批量请求允许的最大单词数
+    public static final int MAX_BATCH_SIZE = 10000;
+
+    // 与 Item 表 word / meaning 列的默认长度保持一致
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    // 每个 JDBC batch 包含的语句数
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    // 查询已存在单词时 IN 子句的分片大小
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    // Item 使用 IDENTITY 主键，Hibernate 会关闭插入批处理，因此直接走 JDBC batch
+    // 调度字段与 Item 的默认值保持一致：新单词立即进入复习队列
+    private static final String INSERT_SQL =
+            "INSERT INTO item (word, meaning, remembered_count, user_id, next_review_at, ease_factor, interval_days, repetitions) "
+            + "VALUES (?, ?, 0, ?, ?, ?, 0, 0)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 在同一个事务内批量插入单词（调用方需保证用户存在）
+     * @return 与输入顺序一一对应的结果：inserted / duplicate / invalid
+     */
+    @Transactional
+    public List<String> importWords(Long userId, List<WordRequest> words) {
+        Set<String> existingWords = findExistingWords(userId, words);
+        Set<String> seenWords = new HashSet<>();
+
+        List<String> statuses = new ArrayList<>(words.size());
+        List<WordRequest> toInsert = new ArrayList<>();
+
+        for (WordRequest request : words) {
+            String word = request != null && request.getWord() != null ? request.getWord().trim() : "";
+            String meaning = request != null && request.getMeaning() != null ? request.getMeaning().trim() : "";
+
+            if (word.isEmpty() || word.length() > MAX_COLUMN_LENGTH || meaning.length() > MAX_COLUMN_LENGTH) {
+                statuses.add(STATUS_INVALID);
+                continue;
+            }
+
+            // 同一用户下单词不区分大小写去重（包括本批次内部的重复）
+            String key = word.toLowerCase();
+            if (existingWords.contains(key) || !seenWords.add(key)) {
+                statuses.add(STATUS_DUPLICATE);
+                continue;
+            }
+
+            toInsert.add(new WordRequest(word, meaning.isEmpty() ? null : meaning));
+            statuses.add(STATUS_INSERTED);
+        }
+
+        if (!toInsert.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_SQL, toInsert, JDBC_BATCH_SIZE, (ps, request) -> {
+                ps.setString(1, request.getWord());
+                ps.setString(2, request.getMeaning());
+                ps.setLong(3, userId);
+                ps.setTimestamp(4, now);
+                ps.setDouble(5, ReviewService.INITIAL_EASE_FACTOR);
+            });
+            // 事务提交后失效该用户的单词列表缓存
+            eventPublisher.publishEvent(new WordsChangedEvent(userId));
+
+            // 事务提交后在后台预取新单词的例句（回滚时不预取）
+            eventPublisher.publishEvent(new WordsAddedEvent(userId,
+                    toInsert.stream().map(WordRequest::getWord).collect(Collectors.toList())));
+        }
+
+        System.out.println("✅ 批量导入完成，用户 " + userId + " 新增 " + toInsert.size() + " / " + words.size() + " 个单词");
+        return statuses;
+    }
+
+    /**
+     * 查询本批次中已存在于该用户单词表里的单词（小写）
+     */
+    private Set<String> findExistingWords(Long userId, List<WordRequest> words) {
+        List<String> candidates = new ArrayList<>();
+        for (WordRequest request : words) {
+            if (request != null && request.getWord() != null && !request.getWord().trim().isEmpty()) {
+                candidates.add(request.getWord().trim().toLowerCase());
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = candidates.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, candidates.size()));
+            existing.addAll(itemRepository.findExistingWords(userId, chunk));
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.vocabulary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 每个用户单词列表的内存缓存，变更事务提交后失效
+ */
+@Component
+public class WordListCache {
+
+    // 每个单词的固定开销估算（对象头、字段、列表引用），用于按内存大小计算权重
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+    private final BoundedCache<Long, List<WordView>> cache;
+    private final long ttlMillis;
+
+    // 每个用户的失效代数，防止失效之前开始的查询把旧数据写回缓存
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    public WordListCache(@Value("${vocabulary.cache.word-lists.max-weight-bytes:33554432}") long maxWeightBytes,
+                         @Value("${vocabulary.cache.word-lists.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = new BoundedCache<>("word-lists", maxWeightBytes, WordListCache::weigh);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 命中直接返回；未命中时调用 loader 加载并缓存（loader 返回 null 表示用户不存在，不缓存）
+     */
+    public List<WordView> getOrLoad(Long userId, Supplier<List<WordView>> loader) {
+        List<WordView> cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generations.getOrDefault(userId, 0L);
+        List<WordView> loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+
+        List<WordView> value = List.copyOf(loaded);
+        synchronized (this) {
+            if (generations.getOrDefault(userId, 0L) == generation) {
+                cache.put(userId, value, ttlMillis);
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(Long userId) {
+        generations.merge(userId, 1L, Long::sum);
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 变更事务提交后失效；非事务内发布的事件立即处理
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordsChanged(WordsChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    private static long weigh(List<WordView> words) {
+        long weight = 0;
+        for (WordView view : words) {
+            weight += ENTRY_OVERHEAD_BYTES;
+            weight += view.getWord() != null ? view.getWord().length() * 2L : 0;
+            weight += view.getMeaning() != null ? view.getMeaning().length() * 2L : 0;
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.vocabulary;
+
+import java.util.List;
+
+/**
+ * 游标分页结果：nextCursor 为本页最后一条的ID，作为下一页的 afterId
+ */
+public class WordPage<T> {
+    private final List<T> items;
+    private final Long nextCursor;
+    private final boolean hasMore;
+
+    public WordPage(List<T> items, Long nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.vocabulary;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 每个用户单词表的版本号，用于生成 ETag；只在内存中维护
+ */
+@Component
+public class WordVersionTracker {
+
+    // 进程启动标识：重启后版本号从 0 开始，带上它避免新旧 ETag 相同
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long currentVersion(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * 强 ETag：同一用户、同一表示形式、同一版本时相同
+     */
+    public String etag(Long userId, String variant) {
+        return "\"" + variant + "-" + epoch + "-" + userId + "-" + currentVersion(userId) + "\"";
+    }
+
+    /**
+     * 变更发布时立即递增，事务提交后再递增一次：
+     * 事务进行期间读取到旧数据的响应，其 ETag 会在提交后失效
+     */
+    @EventListener
+    public void onWordsChanging(WordsChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordsChanged(WordsChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    private void bump(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
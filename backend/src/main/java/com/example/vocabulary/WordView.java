@@ -0,0 +1,40 @@
+package com.example.vocabulary;
+
+/**
+ * 单词的只读投影，列表 / 完整信息 / 统计接口直接由 JPQL 构造，不加载 User
+ */
+public class WordView {
+    private final Long id;
+    private final String word;
+    private final String meaning;
+    private final Integer rememberedCount;
+    private final Long userId;
+
+    public WordView(Long id, String word, String meaning, Integer rememberedCount, Long userId) {
+        this.id = id;
+        this.word = word;
+        this.meaning = meaning;
+        this.rememberedCount = rememberedCount != null ? rememberedCount : 0;
+        this.userId = userId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public String getMeaning() {
+        return meaning;
+    }
+
+    public Integer getRememberedCount() {
+        return rememberedCount;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
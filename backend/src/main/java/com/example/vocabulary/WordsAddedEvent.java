@@ -0,0 +1,24 @@
+package com.example.vocabulary;
+
+import java.util.List;
+
+/**
+ * 用户新增了单词；事务提交后用于预取例句
+ */
+public class WordsAddedEvent {
+    private final Long userId;
+    private final List<String> words;
+
+    public WordsAddedEvent(Long userId, List<String> words) {
+        this.userId = userId;
+        this.words = words;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+}
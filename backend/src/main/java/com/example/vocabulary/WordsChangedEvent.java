@@ -0,0 +1,16 @@
+package com.example.vocabulary;
+
+/**
+ * 某个用户的单词表发生变更（新增、删除、记住次数或复习状态更新）
+ */
+public class WordsChangedEvent {
+    private final Long userId;
+
+    public WordsChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 头像读取：条件请求返回 304，Range 请求返回 206，拒绝路径穿越的文件名，
+ * 多次请求的小头像进入内存热点集，磁盘上的整文件请求交给连接器的 sendfile 输出
+ */
+@SpringBootTest(properties = {
+        "vocabulary.avatars.hot-set.min-hits=2",
+        "vocabulary.avatars.hot-set.max-file-bytes=1024"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthAvatarTest {
+
+    private static final String AVATAR_URL = "/api/auth/avatar/{filename}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AvatarStore avatarStore;
+
+    private final List<Path> files = new ArrayList<>();
+
+    @BeforeEach
+    void createDirectory() throws Exception {
+        Files.createDirectories(AvatarStore.AVATAR_DIR);
+    }
+
+    @AfterEach
+    void deleteFiles() throws Exception {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void matchingEtagReturns304() throws Exception {
+        String filename = avatar(".png", 100);
+        String etag = mockMvc.perform(get(AVATAR_URL, filename))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(AVATAR_URL, filename).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void unmodifiedSinceLastResponseReturns304() throws Exception {
+        String filename = avatar(".jpg", 100);
+        String lastModified = mockMvc.perform(get(AVATAR_URL, filename))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get(AVATAR_URL, filename).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void rangeRequestReturnsPartialContent() throws Exception {
+        String filename = avatar(".png", 2048);
+        byte[] bytes = Files.readAllBytes(AvatarStore.AVATAR_DIR.resolve(filename));
+
+        mockMvc.perform(get(AVATAR_URL, filename).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/2048"))
+                .andExpect(content().bytes(Arrays.copyOfRange(bytes, 10, 20)));
+    }
+
+    @Test
+    void traversalFilenamesAreRejected() throws Exception {
+        // 头像目录外真实存在的文件，穿越成功时会被读到
+        Path outside = AvatarStore.AVATAR_DIR.resolveSibling("secret.png");
+        Files.write(outside, new byte[]{1, 2, 3});
+        files.add(outside);
+        long rejected = rejected();
+
+        mockMvc.perform(get(URI.create("/api/auth/avatar/..%2Fsecret.png"))).andExpect(status().isNotFound());
+        mockMvc.perform(get(AVATAR_URL, "..\\secret.png")).andExpect(status().isNotFound());
+        assertTrue(avatarStore.open("..").isEmpty());
+        assertTrue(avatarStore.open("../secret.png").isEmpty());
+        assertTrue(avatarStore.open("avatars/../../secret.png").isEmpty());
+        assertTrue(avatarStore.open(outside.toAbsolutePath().toString()).isEmpty());
+
+        assertEquals(rejected + 6, rejected());
+    }
+
+    @Test
+    void repeatedSmallAvatarIsServedFromHotSet() throws Exception {
+        String filename = avatar(".gif", 100);
+        byte[] bytes = Files.readAllBytes(AvatarStore.AVATAR_DIR.resolve(filename));
+        long diskReads = stat("diskReads");
+        long hotHits = stat("hotHits");
+
+        // 第一次请求只计数；第二次达到 min-hits，读入内存
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get(AVATAR_URL, filename)).andExpect(content().bytes(bytes));
+        }
+        assertEquals(diskReads + 2, stat("diskReads"));
+        assertEquals(hotHits, stat("hotHits"));
+
+        mockMvc.perform(get(AVATAR_URL, filename))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(bytes));
+        assertEquals(diskReads + 2, stat("diskReads"));
+        assertEquals(hotHits + 1, stat("hotHits"));
+    }
+
+    @Test
+    void largeAvatarIsNeverPromoted() throws Exception {
+        String filename = avatar(".png", 2048);
+        long diskReads = stat("diskReads");
+        long hotHits = stat("hotHits");
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get(AVATAR_URL, filename)).andExpect(status().isOk());
+        }
+
+        assertEquals(diskReads + 3, stat("diskReads"));
+        assertEquals(hotHits, stat("hotHits"));
+    }
+
+    @Test
+    void wholeFileFromDiskIsHandedToSendfile() throws Exception {
+        String filename = avatar(".png", 2048);
+        Path path = AvatarStore.AVATAR_DIR.resolve(filename).toAbsolutePath().normalize();
+
+        MvcResult result = mockMvc.perform(get(AVATAR_URL, filename)
+                        .requestAttr(AuthController.SENDFILE_SUPPORTED_ATTR, true))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 2048))
+                .andExpect(request().attribute(AuthController.SENDFILE_FILENAME_ATTR, path.toString()))
+                .andExpect(request().attribute(AuthController.SENDFILE_START_ATTR, 0L))
+                .andExpect(request().attribute(AuthController.SENDFILE_END_ATTR, 2048L))
+                .andReturn();
+        // 内容由连接器直接从文件输出，不经过 Spring 的消息转换器
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void rangeConditionalAndHeadRequestsSkipSendfile() throws Exception {
+        String filename = avatar(".png", 2048);
+        String etag = mockMvc.perform(get(AVATAR_URL, filename))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(AVATAR_URL, filename)
+                        .requestAttr(AuthController.SENDFILE_SUPPORTED_ATTR, true)
+                        .header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(request().attribute(AuthController.SENDFILE_FILENAME_ATTR, nullValue()));
+        mockMvc.perform(get(AVATAR_URL, filename)
+                        .requestAttr(AuthController.SENDFILE_SUPPORTED_ATTR, true)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(request().attribute(AuthController.SENDFILE_FILENAME_ATTR, nullValue()));
+        mockMvc.perform(head(AVATAR_URL, filename)
+                        .requestAttr(AuthController.SENDFILE_SUPPORTED_ATTR, true))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(AuthController.SENDFILE_FILENAME_ATTR, nullValue()));
+    }
+
+    @Test
+    void hotAvatarSkipsSendfile() throws Exception {
+        String filename = avatar(".png", 100);
+        byte[] bytes = Files.readAllBytes(AvatarStore.AVATAR_DIR.resolve(filename));
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get(AVATAR_URL, filename));
+        }
+
+        // 已在内存中，不再让连接器读磁盘
+        mockMvc.perform(get(AVATAR_URL, filename)
+                        .requestAttr(AuthController.SENDFILE_SUPPORTED_ATTR, true))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(AuthController.SENDFILE_FILENAME_ATTR, nullValue()))
+                .andExpect(content().bytes(bytes));
+    }
+
+    /**
+     * 按上传时的规则生成文件名并写入头像目录
+     */
+    private String avatar(String extension, int size) throws Exception {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        String filename = UUID.randomUUID() + extension;
+        Path path = AvatarStore.AVATAR_DIR.resolve(filename);
+        Files.write(path, bytes);
+        files.add(path);
+        return filename;
+    }
+
+    private long rejected() {
+        return stat("rejectedFilenames");
+    }
+
+    private long stat(String key) {
+        return ((Number) avatarStore.stats().get(key)).longValue();
+    }
+}
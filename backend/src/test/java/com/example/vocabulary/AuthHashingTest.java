@@ -0,0 +1,197 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 登录/注册的 BCrypt 准入控制：哈希线程池满时返回 503 + Retry-After，强度提高后登录时重新哈希，
+ * 数据库操作不在哈希线程上执行，登录高峰期间其他接口的延迟不受影响
+ */
+@SpringBootTest(properties = {
+        "vocabulary.auth.bcrypt.strength=10",
+        "vocabulary.auth.hashing.threads=1",
+        "vocabulary.auth.hashing.queue-capacity=4"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthHashingTest {
+
+    private static final String PASSWORD = "secret";
+    private static final String HASHING_THREAD = "password-hashing";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    @SpyBean
+    private PasswordHashingService passwordHashingService;
+
+    // 数据库操作所在的线程名
+    private final Map<String, String> dbThreads = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void saturatedHashingPoolReturns503WithRetryAfter() throws Exception {
+        userRepository.save(new User("alice", new BCryptPasswordEncoder(4).encode(PASSWORD)));
+        doReturn(CompletableFuture.failedFuture(new PasswordHashingService.SaturatedException()))
+                .when(passwordHashingService).matches(anyString(), anyString());
+        doReturn(CompletableFuture.failedFuture(new PasswordHashingService.SaturatedException()))
+                .when(passwordHashingService).encode(anyString());
+
+        perform("/api/auth/login", "alice")
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(content().string("登录请求过多，请稍后重试"));
+        perform("/api/auth/register", "bob")
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        assertFalse(userRepository.existsByUsername("bob"));
+    }
+
+    @Test
+    void loginRehashesWeakerHashOffTheHashingPool() throws Exception {
+        User user = userRepository.save(new User("carol", new BCryptPasswordEncoder(4).encode(PASSWORD)));
+        doAnswer(invocation -> {
+            dbThreads.put("updatePasswordHash", Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(userRepository).updatePasswordHash(anyLong(), anyString(), anyString());
+        long rehashedBefore = rehashed();
+
+        perform("/api/auth/login", "carol").andExpect(status().isOk());
+
+        waitUntil(() -> userRepository.findById(user.getId()).orElseThrow().getPasswordHash().startsWith("$2a$10$"));
+        assertEquals(rehashedBefore + 1, rehashed());
+        assertFalse(dbThreads.get("updatePasswordHash").startsWith(HASHING_THREAD));
+
+        // 新哈希仍然可以登录，且不再重新哈希
+        perform("/api/auth/login", "carol").andExpect(status().isOk());
+        assertEquals(rehashedBefore + 1, rehashed());
+    }
+
+    @Test
+    void registrationInsertRunsOffTheHashingPool() throws Exception {
+        doAnswer(invocation -> {
+            dbThreads.put("saveAndFlush", Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(userRepository).saveAndFlush(any());
+
+        perform("/api/auth/register", "dave").andExpect(status().isOk());
+
+        assertFalse(dbThreads.get("saveAndFlush").startsWith(HASHING_THREAD));
+    }
+
+    @Test
+    void cheapEndpointsKeepLatencyDuringLoginSpike() throws Exception {
+        userRepository.save(new User("erin", new BCryptPasswordEncoder(10).encode(PASSWORD)));
+        int spike = 40;
+        ExecutorService clients = Executors.newFixedThreadPool(spike);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> logins = new ArrayList<>();
+            for (int i = 0; i < spike; i++) {
+                logins.add(clients.submit(() -> {
+                    start.await();
+                    return perform("/api/auth/login", "erin").andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            // 登录高峰期间反复请求不需要哈希的接口
+            List<Long> latencies = new ArrayList<>();
+            while (latencies.size() < 200) {
+                long begin = System.nanoTime();
+                mockMvc.perform(get("/api/auth/username-available").param("username", "frank"))
+                        .andExpect(status().isOk());
+                latencies.add((System.nanoTime() - begin) / 1_000_000);
+            }
+
+            int ok = 0;
+            int unavailable = 0;
+            for (Future<Integer> login : logins) {
+                int code = login.get(60, TimeUnit.SECONDS);
+                if (code == 200) {
+                    ok++;
+                } else if (code == 503) {
+                    unavailable++;
+                }
+            }
+
+            // 1 个哈希线程 + 4 个排队名额：超出的登录请求立即得到 503，而不是占用线程排队
+            assertTrue(ok >= 1, "成功登录 " + ok);
+            assertTrue(unavailable > 0, "没有请求被拒绝");
+            assertEquals(spike, ok + unavailable);
+            Collections.sort(latencies);
+            long p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+            assertTrue(p99 < 100, "登录高峰期间 username-available 的 p99 为 " + p99 + "ms");
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private long rehashed() {
+        return ((Number) passwordHashingService.stats().get("rehashed")).longValue();
+    }
+
+    private ResultActions perform(String path, String username) throws Exception {
+        MvcResult result = mockMvc.perform(post(path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private static void waitUntil(Condition condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.test()) {
+            assertTrue(System.currentTimeMillis() < deadline, "等待超时");
+            Thread.sleep(10);
+        }
+    }
+
+    private interface Condition {
+        boolean test() throws Exception;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 注册：超长用户名在哈希前拒绝；只有用户名唯一约束冲突返回 409
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthRegisterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    @SpyBean
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void registersNewUser() throws Exception {
+        register("alice")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("alice"))
+                .andExpect(jsonPath("$.token").isNotEmpty());
+    }
+
+    @Test
+    void overlongUsernameIsRejectedBeforeHashing() throws Exception {
+        register("a".repeat(51))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("用户名不能超过50个字符"));
+
+        verify(passwordHashingService, never()).encode(anyString());
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void takenUsernameIsConflict() throws Exception {
+        register("bob").andExpect(status().isOk());
+
+        register("bob")
+                .andExpect(status().isConflict())
+                .andExpect(content().string("用户名已存在"));
+    }
+
+    @Test
+    void otherConstraintFailureIsNotReportedAsTaken() throws Exception {
+        doThrow(new DataIntegrityViolationException("value too long for column"))
+                .when(userRepository).saveAndFlush(argThat((User user) -> "carol".equals(user.getUsername())));
+
+        register("carol")
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string("注册失败，请稍后重试"));
+    }
+
+    private ResultActions register(String username) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"secret\"}"))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
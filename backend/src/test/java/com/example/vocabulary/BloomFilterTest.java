@@ -0,0 +1,65 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int CAPACITY = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void hasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(filter.mightContain("user" + i), "user" + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < FALSE_POSITIVE_RATE * 2, "误判率过高: " + rate);
+        assertTrue(filter.expectedFalsePositiveRate() < FALSE_POSITIVE_RATE * 1.5);
+    }
+
+    @Test
+    void handlesNonAsciiValues() {
+        BloomFilter filter = new BloomFilter(100, FALSE_POSITIVE_RATE);
+        filter.put("张三");
+
+        assertTrue(filter.mightContain("张三"));
+        assertFalse(filter.mightContain("李四"));
+    }
+
+    @Test
+    void reportsSaturationOnlyAfterCapacity() {
+        BloomFilter filter = new BloomFilter(10, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < 10; i++) {
+            filter.put("user" + i);
+        }
+        assertFalse(filter.isSaturated());
+
+        filter.put("user10");
+        assertTrue(filter.isSaturated());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 1000;
+
+    private final AtomicLong now = new AtomicLong(10_000);
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_MILLIS, now::get);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        recordFailures(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        recordFailures(1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        recordFailures(2);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        recordFailures(2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void reportsHalfOpenOnceCoolDownIsOverWithoutAnyRequest() {
+        recordFailures(3);
+        now.addAndGet(OPEN_MILLIS - 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(1);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals("HALF_OPEN", breaker.stats().get("state"));
+    }
+
+    @Test
+    void allowsSingleProbeWhenHalfOpen() {
+        recordFailures(3);
+        now.addAndGet(OPEN_MILLIS);
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void successfulProbeClosesBreaker() {
+        recordFailures(3);
+        now.addAndGet(OPEN_MILLIS);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void failedProbeReopensForAnotherCoolDown() {
+        recordFailures(3);
+        now.addAndGet(OPEN_MILLIS);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        now.addAndGet(OPEN_MILLIS);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void cancelledProbeReleasesSlot() {
+        recordFailures(3);
+        now.addAndGet(OPEN_MILLIS);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onCancelled();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void recordFailures(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+}
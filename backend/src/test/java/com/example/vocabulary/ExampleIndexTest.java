@@ -0,0 +1,68 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 基于打包的英语语料（examples/en.bin）校验词形还原后的检索结果
+ */
+class ExampleIndexTest {
+
+    private static ExampleIndex index;
+
+    @BeforeAll
+    static void buildIndex() throws Exception {
+        Path corpus = Path.of(ExampleIndexTest.class.getResource("/examples/en.bin").toURI());
+        index = ExampleIndex.build(ExampleCorpus.open(corpus));
+    }
+
+    @Test
+    void inflectedQueriesFindBaseFormSentences() {
+        assertEquals("ability", index.lemma("abilities"));
+        assertEquals("bus", index.lemma("buses"));
+        assertEquals("open", index.lemma("opened"));
+        assertEquals("tall", index.lemma("taller"));
+        assertEquals("take", index.lemma("took"));
+        assertTrue(anyContains(index.search("abilities", 10), "ability"));
+    }
+
+    @Test
+    void unknownBaseFormDoesNotFallBackToUnrelatedWord() {
+        // care / use 不在语料中：不能命中 car / us 的例句
+        assertEquals("cared", index.lemma("cared"));
+        assertEquals("used", index.lemma("used"));
+        assertEquals("uses", index.lemma("uses"));
+        assertFalse(index.contains("cared"));
+        assertFalse(index.contains("used"));
+        assertTrue(index.search("cared", 10).isEmpty());
+    }
+
+    @Test
+    void nonInflectedWordsKeepTheirOwnPostings() {
+        assertEquals("news", index.lemma("news"));
+        for (Map<String, String> example : index.search("news", 10)) {
+            assertTrue(example.get("english").toLowerCase().contains("news"));
+        }
+        assertFalse(anyContains(index.search("new", 50), "news"));
+    }
+
+    @Test
+    void corpusTokensAreNotMergedIntoFunctionWords() {
+        assertEquals("bees", index.lemma("bees"));
+        assertEquals("forest", index.lemma("forest"));
+        assertFalse(anyContains(index.search("for", 1000), "forest"));
+        assertFalse(anyContains(index.search("be", 1000), "bees"));
+    }
+
+    private static boolean anyContains(List<Map<String, String>> examples, String word) {
+        return examples.stream().anyMatch(example -> example.get("english").toLowerCase().matches(".*\\b" + word + "\\b.*"));
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.vocabulary;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 对冲落败的请求通过真实的连接池 RestTemplate 访问慢速本地 HTTP 服务：
+ * 取消时中止 HTTP 请求本身，线程和连接立即释放，而不是等到上游返回或读超时
+ */
+class HedgedDictionaryAbortTest {
+
+    private static final long SLOW_MILLIS = 5000;
+    private static final long READ_TIMEOUT_MILLIS = 10000;
+    private static final String PRIMARY_BODY =
+            "[{\"meanings\":[{\"definitions\":[{\"example\":\"from primary\"}]}]}]";
+    private static final String BACKUP_BODY =
+            "{\"en\":[{\"definitions\":[{\"examples\":[\"<i>from</i> backup\"]}]}]}";
+
+    private volatile boolean primarySlow = true;
+    private volatile boolean backupFound = true;
+
+    private HttpServer primaryServer;
+    private HttpServer backupServer;
+    private ExecutorService serverExecutor;
+    private ObservedProvider primary;
+    private HedgedDictionaryClient client;
+
+    @BeforeEach
+    void start() throws Exception {
+        serverExecutor = Executors.newCachedThreadPool();
+        primaryServer = startServer("/entries/", exchange -> {
+            if (primarySlow) {
+                sleep(SLOW_MILLIS);
+            }
+            respond(exchange, 200, PRIMARY_BODY);
+        });
+        backupServer = startServer("/definition/", exchange -> {
+            if (backupFound) {
+                respond(exchange, 200, BACKUP_BODY);
+            } else {
+                respond(exchange, 404, "{}");
+            }
+        });
+
+        // 每个来源只有一条连接：落败请求不释放连接时，下一次请求拿不到连接
+        RestTemplate restTemplate = new VocabularyApplication().restTemplate(10, 1, 1000, READ_TIMEOUT_MILLIS, 500);
+
+        FreeDictionaryProvider freeDictionary = new FreeDictionaryProvider();
+        ReflectionTestUtils.setField(freeDictionary, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(freeDictionary, "baseUrl", baseUrl(primaryServer, "/entries/"));
+        primary = new ObservedProvider(freeDictionary);
+
+        WiktionaryProvider wiktionary = new WiktionaryProvider();
+        ReflectionTestUtils.setField(wiktionary, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(wiktionary, "baseUrl", baseUrl(backupServer, "/definition/"));
+
+        client = new HedgedDictionaryClient(List.of(wiktionary, primary), "free-dictionary,wiktionary",
+                5, 30, 0.95, 20, 100, 50, 1500, 4);
+    }
+
+    @AfterEach
+    void stop() {
+        client.shutdown();
+        primaryServer.stop(0);
+        backupServer.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void losingRequestIsAbortedInsteadOfWaitingForTheSlowUpstream() throws Exception {
+        long start = System.nanoTime();
+        List<Map<String, String>> examples = client.fetch("apple");
+
+        assertEquals("from backup", examples.get(0).get("english"));
+        assertTrue(primary.finished.await(1, TimeUnit.SECONDS),
+                "落败的请求应在取消后立即结束，而不是等待上游 " + SLOW_MILLIS + "ms");
+        assertTrue(elapsedMillis(start) < SLOW_MILLIS / 2);
+
+        // 被取消不计为上游故障
+        Map<?, ?> breaker = (Map<?, ?>) client.circuitBreakerStats().get("free-dictionary");
+        assertEquals(0L, ((Number) breaker.get("failures")).longValue());
+    }
+
+    @Test
+    void abortedRequestReleasesItsPooledConnection() throws Exception {
+        client.fetch("apple");
+        assertTrue(primary.finished.await(1, TimeUnit.SECONDS));
+
+        // 主来源恢复、备用来源无结果：唯一的连接已归还时主来源才能返回例句
+        primarySlow = false;
+        backupFound = false;
+        List<Map<String, String>> examples = client.fetch("banana");
+
+        assertEquals(1, examples.size());
+        assertEquals("from primary", examples.get(0).get("english"));
+    }
+
+    private HttpServer startServer(String path, HttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(path, handler);
+        server.setExecutor(serverExecutor);
+        server.start();
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server, String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 记录真实 Free Dictionary 请求何时结束（返回或抛出异常）
+     */
+    private static class ObservedProvider implements DictionaryProvider {
+        private final DictionaryProvider delegate;
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        ObservedProvider(DictionaryProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public List<Map<String, String>> fetchExamples(String word) throws Exception {
+            try {
+                return delegate.fetchExamples(word);
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgedDictionaryClientTest {
+
+    private static final List<Map<String, String>> PRIMARY_EXAMPLES =
+            List.of(Map.of("english", "from primary", "chinese", ""));
+    private static final List<Map<String, String>> BACKUP_EXAMPLES =
+            List.of(Map.of("english", "from backup", "chinese", ""));
+
+    private HedgedDictionaryClient client;
+
+    @AfterEach
+    void shutdown() {
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() throws Exception {
+        StubProvider primary = new StubProvider("primary", 0, PRIMARY_EXAMPLES);
+        StubProvider backup = new StubProvider("backup", 0, BACKUP_EXAMPLES);
+        client = newClient(primary, backup);
+
+        assertEquals(PRIMARY_EXAMPLES, client.fetch("apple"));
+        assertEquals(0, backup.calls.get());
+        assertEquals(0L, client.stats().get("hedgedRequests"));
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndBackupWins() throws Exception {
+        StubProvider primary = new StubProvider("primary", 2000, PRIMARY_EXAMPLES);
+        StubProvider backup = new StubProvider("backup", 0, BACKUP_EXAMPLES);
+        client = newClient(primary, backup);
+
+        assertEquals(BACKUP_EXAMPLES, client.fetch("apple"));
+        assertEquals(1L, client.stats().get("hedgedRequests"));
+        assertEquals(1L, client.stats().get("hedgeWins"));
+    }
+
+    @Test
+    void emptyResultWaitsForInFlightHedge() throws Exception {
+        // 主来源在对冲发出后先返回空结果，备用来源稍后返回例句
+        StubProvider primary = new StubProvider("primary", 100, Collections.emptyList());
+        StubProvider backup = new StubProvider("backup", 300, BACKUP_EXAMPLES);
+        client = newClient(primary, backup);
+
+        assertEquals(BACKUP_EXAMPLES, client.fetch("apple"));
+        assertEquals(1, backup.calls.get());
+    }
+
+    @Test
+    void emptyResultIsReturnedWhenNoOtherSourceHasExamples() throws Exception {
+        StubProvider primary = new StubProvider("primary", 100, Collections.emptyList());
+        StubProvider backup = new StubProvider("backup", 300, Collections.emptyList());
+        client = newClient(primary, backup);
+
+        assertTrue(client.fetch("apple").isEmpty());
+    }
+
+    @Test
+    void failingPrimaryFailsOverToBackup() throws Exception {
+        StubProvider primary = StubProvider.failing("primary");
+        StubProvider backup = new StubProvider("backup", 0, BACKUP_EXAMPLES);
+        client = newClient(primary, backup);
+
+        assertEquals(BACKUP_EXAMPLES, client.fetch("apple"));
+        assertEquals(1L, client.stats().get("failovers"));
+    }
+
+    @Test
+    void rejectsWithoutCallingProvidersWhenAllBreakersAreOpen() {
+        StubProvider primary = StubProvider.failing("primary");
+        StubProvider backup = StubProvider.failing("backup");
+        client = newClient(primary, backup);
+        assertFalse(client.isAllOpen());
+
+        assertThrows(Exception.class, () -> client.fetch("apple"));
+        assertTrue(client.isAllOpen());
+
+        assertThrows(IllegalStateException.class, () -> client.fetch("apple"));
+        assertEquals(1, primary.calls.get());
+        assertEquals(1, backup.calls.get());
+    }
+
+    /**
+     * 每个来源连续失败 1 次即熔断；样本不足时对冲等待 50ms
+     */
+    private HedgedDictionaryClient newClient(StubProvider primary, StubProvider backup) {
+        return new HedgedDictionaryClient(List.of(backup, primary), "primary,backup",
+                1, 60, 0.95, 20, 50, 10, 1000, 4);
+    }
+
+    private static class StubProvider implements DictionaryProvider {
+        final String name;
+        final long delayMillis;
+        final List<Map<String, String>> examples;
+        final boolean fail;
+        final AtomicInteger calls = new AtomicInteger();
+
+        StubProvider(String name, long delayMillis, List<Map<String, String>> examples) {
+            this(name, delayMillis, examples, false);
+        }
+
+        private StubProvider(String name, long delayMillis, List<Map<String, String>> examples, boolean fail) {
+            this.name = name;
+            this.delayMillis = delayMillis;
+            this.examples = examples;
+            this.fail = fail;
+        }
+
+        static StubProvider failing(String name) {
+            return new StubProvider(name, 0, null, true);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<Map<String, String>> fetchExamples(String word) throws Exception {
+            calls.incrementAndGet();
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            if (fail) {
+                throw new IllegalStateException(name + " 不可用");
+            }
+            return examples;
+        }
+    }
+}
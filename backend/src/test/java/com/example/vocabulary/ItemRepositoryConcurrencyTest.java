@@ -0,0 +1,103 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 按单词ID记住/删除：并发点击不丢失计数，且只作用于所属用户的单词。
+ * 不使用测试事务，每次调用都是独立提交的事务
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ItemRepositoryConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 100;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User other;
+    private Item item;
+
+    @BeforeEach
+    void createItem() {
+        owner = userRepository.save(new User("owner", "hash"));
+        other = userRepository.save(new User("other", "hash"));
+        item = itemRepository.save(new Item("apple", "苹果", owner));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int updated = 0;
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        updated += itemRepository.incrementRememberedCount(item.getId(), owner.getId());
+                    }
+                    return updated;
+                }));
+            }
+            start.countDown();
+
+            int updated = 0;
+            for (Future<Integer> result : results) {
+                updated += result.get(60, TimeUnit.SECONDS);
+            }
+            assertEquals(THREADS * INCREMENTS_PER_THREAD, updated);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        WordView view = itemRepository.findViewsByUserId(owner.getId()).get(0);
+        assertEquals(THREADS * INCREMENTS_PER_THREAD, view.getRememberedCount());
+    }
+
+    @Test
+    void incrementIsScopedToOwner() {
+        assertEquals(0, itemRepository.incrementRememberedCount(item.getId(), other.getId()));
+        assertEquals(1, itemRepository.incrementRememberedCount(item.getId(), owner.getId()));
+
+        assertEquals(1, itemRepository.findViewsByUserId(owner.getId()).get(0).getRememberedCount());
+    }
+
+    @Test
+    void deleteIsScopedToOwner() {
+        assertEquals(0, itemRepository.deleteByIdAndUserId(item.getId(), other.getId()));
+        assertTrue(itemRepository.existsById(item.getId()));
+
+        assertEquals(1, itemRepository.deleteByIdAndUserId(item.getId(), owner.getId()));
+        assertTrue(itemRepository.findViewsByUserId(owner.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.vocabulary;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 单词列表 / 完整信息 / 统计接口使用的查询：每个查询只执行 1 条 SQL，与单词数无关，且不加载 User；
+ * 包含用户校验在内的每个请求的 SQL 条数见 WordEndpointQueryCountTest
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ItemRepositoryQueryCountTest {
+
+    private static final int SMALL = 5;
+    private static final int LARGE = 200;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private User small;
+    private User large;
+
+    @BeforeEach
+    void createWords() {
+        small = createUserWithWords("small", SMALL);
+        large = createUserWithWords("large", LARGE);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void wordListUsesOneStatement() {
+        assertSingleStatement(() -> itemRepository.findViewsByUserId(small.getId()), SMALL);
+        assertSingleStatement(() -> itemRepository.findViewsByUserId(large.getId()), LARGE);
+    }
+
+    @Test
+    void wordPageUsesOneStatement() {
+        assertSingleStatement(() -> itemRepository.findViewPageByUserId(large.getId(), 0L, PageRequest.of(0, 50)), 50);
+    }
+
+    @Test
+    void statsSummaryUsesOneStatement() {
+        assertSingleStatement(() -> itemRepository.countByRememberedCount(large.getId()), 3);
+    }
+
+    @Test
+    void loadingItemsDoesNotLoadUsers() {
+        List<Item> items = itemRepository.findByUserIdOrderByIdAsc(large.getId());
+
+        assertEquals(LARGE, items.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    }
+
+    private void assertSingleStatement(Load load, int expectedRows) {
+        statistics.clear();
+
+        assertEquals(expectedRows, load.run().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private User createUserWithWords(String username, int count) {
+        User user = entityManager.persist(new User(username, "hash"));
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(new Item(username + i, "含义" + i, user, i % 3));
+        }
+        return user;
+    }
+
+    private interface Load {
+        List<?> run();
+    }
+}
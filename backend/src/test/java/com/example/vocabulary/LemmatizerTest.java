@@ -0,0 +1,105 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LemmatizerTest {
+
+    private static final Set<String> KNOWN = Set.of(
+            "ability", "box", "watch", "bus", "horse", "class", "play", "look", "open", "visit",
+            "tall", "nice", "happy", "stop", "plan", "make", "hope", "like", "agree", "use", "care",
+            "car", "us", "be", "for", "new", "fall", "pass", "add");
+
+    private static String lemma(String token) {
+        return Lemmatizer.lemma(token, KNOWN::contains);
+    }
+
+    @Test
+    void pluralAndThirdPerson() {
+        assertEquals("ability", lemma("abilities"));
+        assertEquals("box", lemma("boxes"));
+        assertEquals("watch", lemma("watches"));
+        assertEquals("bus", lemma("buses"));
+        assertEquals("horse", lemma("horses"));
+        assertEquals("class", lemma("classes"));
+        assertEquals("play", lemma("plays"));
+        assertEquals("use", lemma("uses"));
+    }
+
+    @Test
+    void pastTense() {
+        assertEquals("play", lemma("played"));
+        assertEquals("look", lemma("looked"));
+        assertEquals("open", lemma("opened"));
+        assertEquals("visit", lemma("visited"));
+        assertEquals("hope", lemma("hoped"));
+        assertEquals("agree", lemma("agreed"));
+        assertEquals("add", lemma("added"));
+        assertEquals("pass", lemma("passed"));
+    }
+
+    @Test
+    void presentParticiple() {
+        assertEquals("make", lemma("making"));
+        assertEquals("like", lemma("liking"));
+        assertEquals("look", lemma("looking"));
+        assertEquals("fall", lemma("falling"));
+    }
+
+    @Test
+    void comparatives() {
+        assertEquals("tall", lemma("taller"));
+        assertEquals("nice", lemma("nicest"));
+        assertEquals("happy", lemma("happier"));
+    }
+
+    @Test
+    void prefersPlusEOverBareStem() {
+        assertEquals("care", lemma("cared"));
+        assertEquals("use", lemma("used"));
+    }
+
+    @Test
+    void rejectsBareStemThatWouldHaveDoubled() {
+        // care / use 未知时也不能退回 car / us：car + ed 应为 carred
+        Set<String> known = Set.of("car", "us");
+        assertEquals("cared", Lemmatizer.lemma("cared", known::contains));
+        assertEquals("used", Lemmatizer.lemma("used", known::contains));
+        assertEquals("uses", Lemmatizer.lemma("uses", known::contains));
+    }
+
+    @Test
+    void functionWordsAreNeverBaseForms() {
+        assertEquals("bees", lemma("bees"));
+        assertEquals("forest", lemma("forest"));
+        assertEquals("hers", Lemmatizer.lemma("hers", Set.of("her")::contains));
+    }
+
+    @Test
+    void undoublesConsonantsEvenWhenBaseIsUnknown() {
+        assertEquals("stop", lemma("stopped"));
+        assertEquals("plan", lemma("planning"));
+        assertEquals("run", lemma("running"));
+        assertEquals("get", lemma("getting"));
+    }
+
+    @Test
+    void keepsWordsThatAreNotInflections() {
+        assertEquals("news", lemma("news"));
+        assertEquals("morning", lemma("morning"));
+        assertEquals("need", Lemmatizer.lemma("need", Set.of("nee")::contains));
+        assertEquals("dinner", Lemmatizer.lemma("dinner", Set.<String>of()::contains));
+    }
+
+    @Test
+    void irregularForms() {
+        assertEquals("go", lemma("went"));
+        assertEquals("take", lemma("took"));
+        assertEquals("run", lemma("ran"));
+        assertEquals("be", lemma("were"));
+        assertEquals("child", lemma("children"));
+    }
+}
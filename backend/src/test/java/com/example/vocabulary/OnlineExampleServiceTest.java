@@ -0,0 +1,147 @@
+package com.example.vocabulary;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 同一单词的并发在线查询合并为一次上游请求（本地 HTTP 服务模拟 Free Dictionary API）
+ */
+class OnlineExampleServiceTest {
+
+    private static final int CALLERS = 20;
+    private static final String RESPONSE_BODY =
+            "[{\"meanings\":[{\"definitions\":[{\"example\":\"Finding it was pure serendipity.\"}]}]}]";
+
+    private final AtomicInteger upstreamHits = new AtomicInteger();
+    private volatile int responseStatus = 200;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HedgedDictionaryClient dictionaryClient;
+    private OnlineExampleService service;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/entries/", exchange -> {
+            upstreamHits.incrementAndGet();
+            // 等其余调用者都挂到同一个进行中的请求上再返回
+            waitForCoalescedCallers(CALLERS - 1);
+            byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        FreeDictionaryProvider provider = new FreeDictionaryProvider();
+        ReflectionTestUtils.setField(provider, "restTemplate", new RestTemplate());
+        ReflectionTestUtils.setField(provider, "baseUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/entries/");
+
+        dictionaryClient = new HedgedDictionaryClient(List.of(provider), "free-dictionary",
+                5, 30, 0.95, 20, 300, 50, 1500, 4);
+
+        service = new OnlineExampleService(1 << 20, 86400, 3600, 86400, 4, 5000);
+        ReflectionTestUtils.setField(service, "dictionaryClient", dictionaryClient);
+        ReflectionTestUtils.setField(service, "localExampleService", mock(ExampleSentenceService.class));
+        ReflectionTestUtils.setField(service, "exampleStore", mock(ExampleStore.class));
+
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void stop() {
+        callers.shutdownNow();
+        service.shutdown();
+        dictionaryClient.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsShareOneUpstreamCall() throws Exception {
+        List<List<Map<String, String>>> results = fetchConcurrently("serendipity");
+
+        assertEquals(1, upstreamHits.get());
+        for (List<Map<String, String>> examples : results) {
+            assertEquals(1, examples.size());
+            assertEquals("Finding it was pure serendipity.", examples.get(0).get("english"));
+        }
+        Map<String, Object> stats = service.cacheStats();
+        assertEquals(1L, stats.get("upstreamCalls"));
+        assertEquals((long) CALLERS - 1, stats.get("coalescedCalls"));
+        assertEquals(0, stats.get("inFlight"));
+    }
+
+    @Test
+    void sharedFailureIsNotCachedAndNextRequestRetries() throws Exception {
+        responseStatus = 500;
+
+        for (List<Map<String, String>> examples : fetchConcurrently("serendipity")) {
+            assertTrue(examples.isEmpty());
+        }
+        assertEquals(1, upstreamHits.get());
+
+        responseStatus = 200;
+        assertEquals(1, service.getExamples("serendipity").size());
+        assertEquals(2, upstreamHits.get());
+    }
+
+    private List<List<Map<String, String>>> fetchConcurrently(String word) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Map<String, String>>>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(callers.submit(() -> {
+                start.await();
+                return service.getExamples(word);
+            }));
+        }
+        start.countDown();
+
+        List<List<Map<String, String>>> results = new ArrayList<>();
+        for (Future<List<Map<String, String>>> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private void waitForCoalescedCallers(long expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (((Number) service.cacheStats().get("coalescedCalls")).longValue() < expected
+                && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
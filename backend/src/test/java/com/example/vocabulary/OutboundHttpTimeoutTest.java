@@ -0,0 +1,234 @@
+package com.example.vocabulary;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 连接池 RestTemplate 的连接/读取/取连接超时与熔断器：本地 HTTP 服务注入延迟，
+ * 请求延迟的 p99 不超过超时上限，上游持续变慢时熔断器打开并快速失败
+ */
+class OutboundHttpTimeoutTest {
+
+    private static final long CONNECT_TIMEOUT_MILLIS = 200;
+    private static final long READ_TIMEOUT_MILLIS = 300;
+    private static final long POOL_ACQUIRE_TIMEOUT_MILLIS = 200;
+    // 超时之外允许的调度、建连等开销
+    private static final long SLACK_MILLIS = 400;
+    private static final long UPSTREAM_DELAY_MILLIS = 3000;
+    private static final int FAILURE_THRESHOLD = 5;
+
+    private static final String RESPONSE_BODY =
+            "[{\"meanings\":[{\"definitions\":[{\"example\":\"An example sentence.\"}]}]}]";
+
+    private final AtomicInteger upstreamHits = new AtomicInteger();
+    // 每 slowEvery 个请求中有一个延迟 UPSTREAM_DELAY_MILLIS；为 1 时全部变慢
+    private volatile int slowEvery = Integer.MAX_VALUE;
+    private final CountDownLatch slowRequestStarted = new CountDownLatch(1);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HedgedDictionaryClient client;
+
+    @BeforeEach
+    void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/entries/", exchange -> {
+            int hit = upstreamHits.incrementAndGet();
+            if (hit % slowEvery == 0) {
+                slowRequestStarted.countDown();
+                sleep(UPSTREAM_DELAY_MILLIS);
+            }
+            byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        if (client != null) {
+            client.shutdown();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void injectedLatencyKeepsP99WithinReadTimeout() throws Exception {
+        slowEvery = 10;
+        client = newClient(provider(restTemplate(20), serverUrl()));
+
+        List<Long> latencies = new ArrayList<>();
+        int failures = 0;
+        for (int i = 0; i < 100; i++) {
+            long start = System.nanoTime();
+            try {
+                client.fetch("word" + i);
+            } catch (Exception e) {
+                failures++;
+            }
+            latencies.add(elapsedMillis(start));
+        }
+
+        // 慢请求在读超时后失败，不会等到上游返回；偶发的慢请求不会打开熔断器
+        assertEquals(10, failures);
+        assertTrue(percentile(latencies, 0.99) < READ_TIMEOUT_MILLIS + SLACK_MILLIS,
+                "p99 " + percentile(latencies, 0.99) + "ms 超过读超时上限");
+        assertEquals("CLOSED", breakerStats().get("state"));
+    }
+
+    @Test
+    void slowUpstreamOpensBreakerAndFailsFast() throws Exception {
+        slowEvery = 1;
+        client = newClient(provider(restTemplate(20), serverUrl()));
+
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            long start = System.nanoTime();
+            assertThrows(Exception.class, () -> client.fetch("slow"));
+            latencies.add(elapsedMillis(start));
+        }
+
+        // 连续失败达到阈值后不再访问上游
+        assertEquals(FAILURE_THRESHOLD, upstreamHits.get());
+        assertTrue(client.isAllOpen());
+        assertEquals(1L, ((Number) breakerStats().get("openTransitions")).longValue());
+        assertTrue(Collections.max(latencies) < READ_TIMEOUT_MILLIS + SLACK_MILLIS);
+        for (long latency : latencies.subList(FAILURE_THRESHOLD, latencies.size())) {
+            assertTrue(latency < 50, "熔断后应立即失败，实际 " + latency + "ms");
+        }
+    }
+
+    @Test
+    void exhaustedPoolFailsAfterAcquireTimeout() throws Exception {
+        slowEvery = 1;
+        // 每个路由只有一条连接，读超时大于上游延迟：第一个请求一直占用这条连接
+        FreeDictionaryProvider provider = provider(
+                new VocabularyApplication().restTemplate(20, 1, CONNECT_TIMEOUT_MILLIS, 10000, POOL_ACQUIRE_TIMEOUT_MILLIS),
+                serverUrl());
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Map<String, String>>> holder = caller.submit(() -> provider.fetchExamples("holder"));
+            assertTrue(slowRequestStarted.await(5, TimeUnit.SECONDS));
+
+            long start = System.nanoTime();
+            assertThrows(Exception.class, () -> provider.fetchExamples("waiter"));
+            long waited = elapsedMillis(start);
+
+            assertTrue(waited >= POOL_ACQUIRE_TIMEOUT_MILLIS - 50 && waited < POOL_ACQUIRE_TIMEOUT_MILLIS + SLACK_MILLIS,
+                    "取连接等待 " + waited + "ms");
+            assertEquals(1, upstreamHits.get());
+            assertEquals(1, holder.get(10, TimeUnit.SECONDS).size());
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void unresponsiveHostFailsAfterConnectTimeout() throws Exception {
+        // 不 accept 的监听端口：积压队列占满后新的 SYN 被丢弃，连接一直建立不上
+        try (ServerSocket blackhole = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"))) {
+            List<Socket> fillers = new ArrayList<>();
+            try {
+                for (int i = 0; i < 4; i++) {
+                    Socket filler = new Socket();
+                    try {
+                        filler.connect(blackhole.getLocalSocketAddress(), 100);
+                    } catch (IOException e) {
+                        // 队列已满
+                    }
+                    fillers.add(filler);
+                }
+
+                client = newClient(provider(restTemplate(20), "http://127.0.0.1:" + blackhole.getLocalPort() + "/entries/"));
+                long start = System.nanoTime();
+                assertThrows(Exception.class, () -> client.fetch("apple"));
+                long elapsed = elapsedMillis(start);
+
+                // 连接没有被拒绝，而是等到连接超时才失败
+                assertTrue(elapsed >= CONNECT_TIMEOUT_MILLIS - 50 && elapsed < CONNECT_TIMEOUT_MILLIS + SLACK_MILLIS,
+                        "建连耗时 " + elapsed + "ms");
+                assertEquals(1L, ((Number) breakerStats().get("failures")).longValue());
+            } finally {
+                for (Socket filler : fillers) {
+                    filler.close();
+                }
+            }
+        }
+    }
+
+    private RestTemplate restTemplate(int maxPerRoute) {
+        return new VocabularyApplication().restTemplate(50, maxPerRoute,
+                CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS, POOL_ACQUIRE_TIMEOUT_MILLIS);
+    }
+
+    private static FreeDictionaryProvider provider(RestTemplate restTemplate, String baseUrl) {
+        FreeDictionaryProvider provider = new FreeDictionaryProvider();
+        ReflectionTestUtils.setField(provider, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(provider, "baseUrl", baseUrl);
+        return provider;
+    }
+
+    private static HedgedDictionaryClient newClient(FreeDictionaryProvider provider) {
+        return new HedgedDictionaryClient(List.of(provider), "free-dictionary",
+                FAILURE_THRESHOLD, 30, 0.95, 20, 300, 50, 1500, 4);
+    }
+
+    private String serverUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/entries/";
+    }
+
+    private Map<?, ?> breakerStats() {
+        return (Map<?, ?>) client.circuitBreakerStats().get("free-dictionary");
+    }
+
+    private static long percentile(List<Long> values, double percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingServiceTest {
+
+    private final List<PasswordHashingService> services = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        services.forEach(PasswordHashingService::shutdown);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolAndQueueAreFull() throws Exception {
+        // 1 个线程 + 1 个排队名额；强度 12 的哈希足够慢，第三个请求提交时前两个仍未完成
+        PasswordHashingService hashing = service(12, 1, 1);
+        CompletableFuture<String> running = hashing.encode("first");
+        CompletableFuture<String> queued = hashing.encode("second");
+
+        long start = System.nanoTime();
+        CompletableFuture<String> rejected = hashing.encode("third");
+
+        assertTrue(rejected.isCompletedExceptionally());
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 100);
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(PasswordHashingService.SaturatedException.class, e.getCause());
+        assertEquals(1L, hashing.stats().get("rejected"));
+
+        // 已接受的请求仍然正常完成
+        assertTrue(hashing.matches("first", running.get(30, TimeUnit.SECONDS)).get(30, TimeUnit.SECONDS));
+        assertTrue(hashing.matches("second", queued.get(30, TimeUnit.SECONDS)).get(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void hashesFromALowerStrengthNeedRehash() throws Exception {
+        String weak = service(4, 1, 4).encode("secret").get();
+        PasswordHashingService stronger = service(6, 1, 4);
+        String strong = stronger.encode("secret").get();
+
+        assertTrue(stronger.needsRehash(weak));
+        assertFalse(stronger.needsRehash(strong));
+        // 降低强度时不重新哈希
+        assertFalse(service(4, 1, 4).needsRehash(strong));
+        assertTrue(stronger.matches("secret", weak).get());
+    }
+
+    private PasswordHashingService service(int strength, int threads, int queueCapacity) {
+        PasswordHashingService service = new PasswordHashingService(strength, threads, queueCapacity);
+        services.add(service);
+        return service;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.vocabulary;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 令牌认证前后对比：旧客户端传 userId 时每个请求先查询用户是否存在，携带令牌时只校验签名。
+ * 断言每个请求的 SQL 条数，并在本机打印两种方式的 req/s
+ */
+@SpringBootTest(properties = {
+        "vocabulary.auth.legacy-user-id.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenAuthBenchmarkTest {
+
+    private static final int WORDS = 50;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 3000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(new User("bench-user", "hash"));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < WORDS; i++) {
+            items.add(new Item("word" + i, "含义" + i, user, 0));
+        }
+        itemRepository.saveAll(items);
+        token = tokenService.issue(user.getId());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void tokenRequestSkipsTheUserLookup() throws Exception {
+        assertEquals(1, statementsFor(tokenPage()));
+        assertEquals(2, statementsFor(legacyPage()));
+    }
+
+    @Test
+    void deletedUsersTokenGetsUnauthorizedOnWrite() throws Exception {
+        String orphanToken = tokenService.issue(user.getId() + 1000);
+
+        mockMvc.perform(post("/api/words")
+                        .header("Authorization", "Bearer " + orphanToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"word\":\"orphan\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("用户不存在"));
+        mockMvc.perform(post("/api/words/batch")
+                        .header("Authorization", "Bearer " + orphanToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"words\":[{\"word\":\"orphan\"}]}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void requestsPerSecondBeforeAndAfter() throws Exception {
+        double legacy = requestsPerSecond(legacyPage());
+        double tokens = requestsPerSecond(tokenPage());
+
+        System.out.printf("📊 单词分页接口：userId 参数 %.0f req/s，令牌 %.0f req/s（%.2fx）%n",
+                legacy, tokens, tokens / legacy);
+    }
+
+    private RequestBuilder tokenPage() {
+        return get("/api/words").param("afterId", "0").param("limit", "20")
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private RequestBuilder legacyPage() {
+        return get("/api/words").param("afterId", "0").param("limit", "20")
+                .param("userId", String.valueOf(user.getId()));
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private double requestsPerSecond(RequestBuilder request) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        return MEASURED_REQUESTS * 1e9 / (System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TokenAuthFilterTest {
+
+    private static final String KEY = "k1:0123456789abcdef0123456789abcdef";
+
+    private TokenService tokenService;
+    private TokenAuthFilter filter;
+
+    @BeforeEach
+    void createFilter() {
+        tokenService = new TokenService(KEY, 1);
+        filter = new TokenAuthFilter();
+        ReflectionTestUtils.setField(filter, "tokenService", tokenService);
+    }
+
+    @Test
+    void validTokenSetsUserIdAttribute() throws Exception {
+        MockHttpServletRequest request = apiRequest();
+        request.addHeader("Authorization", "Bearer " + tokenService.issue(42L));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(42L, request.getAttribute(RequestUser.ATTRIBUTE));
+    }
+
+    @Test
+    void invalidTokenIsRejectedBeforeTheController() throws Exception {
+        MockHttpServletRequest request = apiRequest();
+        request.addHeader("Authorization", "Bearer " + new TokenService("k1:another-key-another-key-another-key", 1).issue(42L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(request.getAttribute(RequestUser.ATTRIBUTE));
+    }
+
+    @Test
+    void requestWithoutTokenPassesThroughAnonymously() throws Exception {
+        MockHttpServletRequest request = apiRequest();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(request.getAttribute(RequestUser.ATTRIBUTE));
+        assertNull(request.getAttribute(RequestUser.LEGACY_ATTRIBUTE));
+    }
+
+    @Test
+    void legacyUserIdOnlyAllowedWithoutTokenWhenEnabled() throws Exception {
+        ReflectionTestUtils.setField(filter, "legacyUserIdEnabled", true);
+        MockHttpServletRequest anonymous = apiRequest();
+        MockHttpServletRequest withToken = apiRequest();
+        withToken.addHeader("Authorization", "Bearer " + tokenService.issue(7L));
+
+        filter.doFilter(anonymous, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(withToken, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(Boolean.TRUE, anonymous.getAttribute(RequestUser.LEGACY_ATTRIBUTE));
+        assertNull(withToken.getAttribute(RequestUser.LEGACY_ATTRIBUTE));
+        assertEquals(7L, withToken.getAttribute(RequestUser.ATTRIBUTE));
+    }
+
+    @Test
+    void nonApiPathsAreNotFiltered() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/index.html");
+        request.addHeader("Authorization", "Bearer not-a-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/words");
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenServiceTest {
+
+    private static final String OLD_KEY = "k1:0123456789abcdef0123456789abcdef";
+    private static final String NEW_KEY = "k2:fedcba9876543210fedcba9876543210";
+
+    @Test
+    void verifiesIssuedToken() {
+        TokenService tokens = new TokenService(OLD_KEY, 1);
+
+        String token = tokens.issue(42L);
+
+        assertTrue(token.startsWith("k1.42."));
+        assertEquals(42L, tokens.verify(token));
+    }
+
+    @Test
+    void rejectsTamperedUserId() {
+        TokenService tokens = new TokenService(OLD_KEY, 1);
+        String token = tokens.issue(42L);
+
+        assertNull(tokens.verify(token.replaceFirst("\\.42\\.", ".43.")));
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        TokenService tokens = new TokenService(OLD_KEY, 1);
+        String token = tokens.issue(42L);
+        char last = token.charAt(token.length() - 1);
+
+        assertNull(tokens.verify(token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A')));
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() {
+        String token = new TokenService("k1:another-secret-another-secret-another", 1).issue(42L);
+
+        assertNull(new TokenService(OLD_KEY, 1).verify(token));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        TokenService tokens = new TokenService(OLD_KEY, -1);
+
+        assertNull(tokens.verify(tokens.issue(42L)));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        TokenService tokens = new TokenService(OLD_KEY, 1);
+
+        assertNull(tokens.verify(""));
+        assertNull(tokens.verify("garbage"));
+        assertNull(tokens.verify("k1.42.signature"));
+        assertNull(tokens.verify("k1.abc.123.c2lnbmF0dXJl"));
+        assertNull(tokens.verify("k1.42.123.!!!"));
+    }
+
+    @Test
+    void rotatedKeyStillVerifiesOldTokensAndSignsWithNewKey() {
+        String oldToken = new TokenService(OLD_KEY, 1).issue(42L);
+        TokenService rotated = new TokenService(NEW_KEY + "," + OLD_KEY, 1);
+
+        assertEquals(42L, rotated.verify(oldToken));
+        String newToken = rotated.issue(42L);
+        assertTrue(newToken.startsWith("k2."));
+        assertNotEquals(oldToken, newToken);
+        assertEquals(42L, rotated.verify(newToken));
+    }
+
+    @Test
+    void removedKeyNoLongerVerifies() {
+        String oldToken = new TokenService(OLD_KEY, 1).issue(42L);
+
+        assertNull(new TokenService(NEW_KEY, 1).verify(oldToken));
+    }
+}
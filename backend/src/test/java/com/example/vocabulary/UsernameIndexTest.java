@@ -0,0 +1,98 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 用户名索引：构建期间注册的用户名不会丢失，超过容量后按新的用户数重建
+ */
+class UsernameIndexTest {
+
+    private static final long MIN_CAPACITY = 10;
+
+    private final List<String> usernames = new CopyOnWriteArrayList<>();
+    private UserRepository userRepository;
+    private UsernameIndex index;
+
+    @BeforeEach
+    void createIndex() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.count()).thenAnswer(invocation -> (long) usernames.size());
+        when(userRepository.streamAllUsernames()).thenAnswer(invocation -> usernames.stream());
+        index = new UsernameIndex(userRepository, mock(PlatformTransactionManager.class), MIN_CAPACITY, 0.01);
+    }
+
+    @Test
+    void everyNameMightExistBeforeTheFirstBuild() {
+        assertTrue(index.mightExist("anyone"));
+        assertEquals(false, index.stats().get("ready"));
+    }
+
+    @Test
+    void registrationsDuringBuildAreAddedToTheNewFilter() throws Exception {
+        usernames.add("alice");
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch registered = new CountDownLatch(1);
+        when(userRepository.streamAllUsernames()).thenAnswer(invocation -> {
+            // 构建线程已读取用户数、正在扫描时，另一个用户完成注册
+            scanning.countDown();
+            registered.await(5, TimeUnit.SECONDS);
+            return usernames.stream();
+        });
+
+        index.buildInBackground();
+        assertTrue(scanning.await(5, TimeUnit.SECONDS));
+        index.add("Bob");
+        registered.countDown();
+        waitUntil(() -> Boolean.TRUE.equals(index.stats().get("ready")));
+
+        assertTrue(index.mightExist("alice"));
+        // 注册时的用户名不在扫描结果中，只能来自构建期间的补加
+        assertTrue(index.mightExist("bob"));
+    }
+
+    @Test
+    void saturatedFilterIsRebuiltWithLargerCapacity() throws Exception {
+        index.buildInBackground();
+        waitUntil(() -> Boolean.TRUE.equals(index.stats().get("ready")));
+        assertEquals(MIN_CAPACITY, filterStats().get("capacity"));
+
+        for (int i = 0; i <= MIN_CAPACITY; i++) {
+            usernames.add("user" + i);
+            index.add("user" + i);
+        }
+        waitUntil(() -> ((Number) index.stats().get("rebuilds")).longValue() == 2);
+
+        // 按当前用户数的两倍重建，已注册的用户名都在新过滤器中
+        assertEquals((MIN_CAPACITY + 1) * 2, filterStats().get("capacity"));
+        assertEquals(MIN_CAPACITY + 1, filterStats().get("insertions"));
+        for (String username : usernames) {
+            assertTrue(index.mightExist(username), username);
+        }
+    }
+
+    private Map<?, ?> filterStats() {
+        return (Map<?, ?>) index.stats().get("filter");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "等待用户名索引构建超时");
+            Thread.sleep(5);
+        }
+    }
+}
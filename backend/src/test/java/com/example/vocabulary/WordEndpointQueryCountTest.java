@@ -0,0 +1,183 @@
+package com.example.vocabulary;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 单词列表 / 完整信息 / 统计接口每个请求的 SQL 条数：包含校验用户是否存在的查询，
+ * 与单词数无关；携带令牌时不查询用户，旧客户端传 userId 时多一条 existsById
+ */
+@SpringBootTest(properties = {
+        "vocabulary.auth.legacy-user-id.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WordEndpointQueryCountTest {
+
+    private static final int SMALL = 5;
+    private static final int LARGE = 200;
+    private static final String[] LIST_ENDPOINTS = {"/api/words", "/api/words/full", "/api/words/stats"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private WordListCache wordListCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User small;
+    private User large;
+
+    @BeforeEach
+    void createWords() {
+        small = createUserWithWords("small", SMALL);
+        large = createUserWithWords("large", LARGE);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+        wordListCache.invalidate(small.getId());
+        wordListCache.invalidate(large.getId());
+    }
+
+    @Test
+    void fullListsUseOneStatementWithToken() throws Exception {
+        for (String endpoint : LIST_ENDPOINTS) {
+            for (User user : List.of(small, large)) {
+                wordListCache.invalidate(user.getId());
+                assertEquals(1, statementsFor(withToken(get(endpoint), user)), endpoint);
+            }
+        }
+    }
+
+    @Test
+    void fullListsCheckTheUserOnceWithLegacyUserId() throws Exception {
+        for (String endpoint : LIST_ENDPOINTS) {
+            for (User user : List.of(small, large)) {
+                wordListCache.invalidate(user.getId());
+                assertEquals(2, statementsFor(withUserId(get(endpoint), user)), endpoint);
+            }
+        }
+    }
+
+    @Test
+    void cachedFullListSkipsTheDatabase() throws Exception {
+        statementsFor(withToken(get("/api/words"), large));
+
+        // 三个接口共用同一份缓存的单词列表
+        for (String endpoint : LIST_ENDPOINTS) {
+            assertEquals(0, statementsFor(withToken(get(endpoint), large)), endpoint);
+            assertEquals(0, statementsFor(withUserId(get(endpoint), large)), endpoint);
+        }
+    }
+
+    @Test
+    void pagesUseOneStatementPlusTheLegacyUserCheck() throws Exception {
+        for (String endpoint : LIST_ENDPOINTS) {
+            for (User user : List.of(small, large)) {
+                assertEquals(1, statementsFor(withToken(page(endpoint), user)), endpoint);
+                assertEquals(2, statementsFor(withUserId(page(endpoint), user)), endpoint);
+            }
+        }
+    }
+
+    @Test
+    void statsSummaryUsesOneStatementPlusTheLegacyUserCheck() throws Exception {
+        for (User user : List.of(small, large)) {
+            assertEquals(1, statementsFor(withToken(get("/api/words/stats/summary"), user)));
+            assertEquals(2, statementsFor(withUserId(get("/api/words/stats/summary"), user)));
+        }
+        mockMvc.perform(withToken(get("/api/words/stats/summary"), large))
+                .andExpect(jsonPath("$.total").value(LARGE));
+    }
+
+    @Test
+    void unchangedListIsNotModifiedWithoutQueries() throws Exception {
+        for (String endpoint : LIST_ENDPOINTS) {
+            String etag = mockMvc.perform(withToken(get(endpoint), large))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            statistics.clear();
+            mockMvc.perform(withUserId(get(endpoint), large).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+            assertEquals(0, statistics.getPrepareStatementCount(), endpoint);
+        }
+    }
+
+    @Test
+    void unknownLegacyUserCostsOneStatement() throws Exception {
+        long missingId = large.getId() + 1000;
+
+        statistics.clear();
+        mockMvc.perform(get("/api/words").param("userId", String.valueOf(missingId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private long statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        // 只读取投影，不加载 User 或 Item 实体
+        assertEquals(0, statistics.getEntityLoadCount());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static MockHttpServletRequestBuilder page(String endpoint) {
+        return get(endpoint).param("afterId", "0").param("limit", "50");
+    }
+
+    private MockHttpServletRequestBuilder withToken(MockHttpServletRequestBuilder request, User user) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(user.getId()));
+    }
+
+    private static MockHttpServletRequestBuilder withUserId(MockHttpServletRequestBuilder request, User user) {
+        return request.param("userId", String.valueOf(user.getId()));
+    }
+
+    private User createUserWithWords(String username, int count) {
+        User user = userRepository.save(new User(username, "hash"));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(username + i, "含义" + i, user, i % 3));
+        }
+        itemRepository.saveAll(items);
+        return user;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.vocabulary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * JdbcTemplate 批量导入：在 H2 上校验逐行结果，以及批量插入的行与 JPA 插入的行一致
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(WordImportService.class)
+class WordImportServiceTest {
+
+    @Autowired
+    private WordImportService wordImportService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = entityManager.persistAndFlush(new User("alice", "hash"));
+    }
+
+    @Test
+    void reportsInsertedDuplicateAndInvalidRows() {
+        entityManager.persistAndFlush(new Item("Apple", "苹果", user));
+
+        List<String> statuses = wordImportService.importWords(user.getId(), Arrays.asList(
+                new WordRequest("apple", "重复（已存在）"),
+                new WordRequest("Banana", "香蕉"),
+                new WordRequest("banana", "重复（同一批次）"),
+                new WordRequest("  ", "空单词"),
+                new WordRequest("x".repeat(256), "过长"),
+                new WordRequest(" cherry ", null),
+                null));
+
+        assertEquals(List.of(
+                WordImportService.STATUS_DUPLICATE,
+                WordImportService.STATUS_INSERTED,
+                WordImportService.STATUS_DUPLICATE,
+                WordImportService.STATUS_INVALID,
+                WordImportService.STATUS_INVALID,
+                WordImportService.STATUS_INSERTED,
+                WordImportService.STATUS_INVALID), statuses);
+
+        List<WordView> words = itemRepository.findViewsByUserId(user.getId());
+        assertEquals(List.of("Apple", "Banana", "cherry"),
+                words.stream().map(WordView::getWord).collect(Collectors.toList()));
+        assertNull(words.get(2).getMeaning());
+    }
+
+    @Test
+    void batchInsertedRowMatchesJpaInsertedRow() {
+        Item viaJpa = entityManager.persistAndFlush(new Item("jpa", "实体插入", user));
+        wordImportService.importWords(user.getId(), List.of(new WordRequest("batch", "批量插入")));
+        entityManager.clear();
+
+        List<Item> items = itemRepository.findByUserIdOrderByIdAsc(user.getId());
+        assertEquals(2, items.size());
+        Item expected = items.get(0);
+        Item actual = items.get(1);
+        assertEquals(viaJpa.getId(), expected.getId());
+        assertEquals("batch", actual.getWord());
+        assertEquals("批量插入", actual.getMeaning());
+        assertEquals(expected.getUser().getId(), actual.getUser().getId());
+        assertEquals(expected.getRememberedCount(), actual.getRememberedCount());
+        assertEquals(expected.getEaseFactor(), actual.getEaseFactor());
+        assertEquals(expected.getIntervalDays(), actual.getIntervalDays());
+        assertEquals(expected.getRepetitions(), actual.getRepetitions());
+        assertNotNull(actual.getNextReviewAt());
+    }
+
+    @Test
+    void insertsLargeBatchAcrossJdbcBatchesAndLookupChunks() {
+        List<WordRequest> words = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            words.add(new WordRequest("word" + i, "含义" + i));
+        }
+        // 第二次导入时全部为已存在单词，覆盖分片查询
+        List<String> first = wordImportService.importWords(user.getId(), words);
+        List<String> second = wordImportService.importWords(user.getId(), words);
+
+        assertEquals(2500, first.stream().filter(WordImportService.STATUS_INSERTED::equals).count());
+        assertEquals(2500, second.stream().filter(WordImportService.STATUS_DUPLICATE::equals).count());
+        assertEquals(2500, itemRepository.findViewsByUserId(user.getId()).size());
+    }
+
+    @Test
+    void duplicatesAreScopedToUser() {
+        User other = entityManager.persistAndFlush(new User("bob", "hash"));
+        entityManager.persistAndFlush(new Item("apple", null, other));
+
+        List<String> statuses = wordImportService.importWords(user.getId(), List.of(new WordRequest("apple", null)));
+
+        assertEquals(List.of(WordImportService.STATUS_INSERTED), statuses);
+    }
+}
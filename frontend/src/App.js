@@ -8,6 +8,7 @@ import AuthPanel from './components/AuthPanel';
 import JapanesePage from './components/JapanesePage';
 import KoreanPage from './components/KoreanPage';
 import { verifyUser, updateDailyTasks } from './api/authService';
+import { authHeaders } from './api/authToken';
 
 function UserPanel({ currentUser, onClose, isVisible, isAnimating, onUserUpdate, onStatsClick, importLoading, importFile, onFileSelect, onImportWords }) {
   const [selectedImage, setSelectedImage] = useState(null);
@@ -111,9 +112,9 @@ function UserPanel({ currentUser, onClose, isVisible, isAnimating, onUserUpdate,
 
       const response = await fetch('/api/auth/random-avatar', {
         method: 'POST',
-        headers: {
+        headers: authHeaders({
           'Content-Type': 'application/json',
-        },
+        }),
         body: JSON.stringify({
           userId: currentUser.id,
           avatarUrl: randomAvatarUrl
@@ -162,6 +163,7 @@ function UserPanel({ currentUser, onClose, isVisible, isAnimating, onUserUpdate,
 
       const response = await fetch('/api/auth/avatar', {
         method: 'POST',
+        headers: authHeaders(),
         body: formData,
         // 注意：这里不设置 Content-Type，让浏览器自动设置 multipart/form-data
       });
@@ -923,8 +925,12 @@ function App() {
           }
 
           try {
-            // 验证用户会话是否仍然有效
-            await verifyUser(userData.id);
+            // 验证用户会话是否仍然有效，服务端续期的令牌写回本地存储
+            const verified = await verifyUser(userData.id);
+            if (verified && verified.token) {
+              userData.token = verified.token;
+              localStorage.setItem('vocab_user', JSON.stringify(userData));
+            }
             setCurrentUser(userData);
           } catch (apiError) {
             // 在开发环境下，如果API调用失败但localStorage数据看起来有效，我们可以信任它
@@ -1036,7 +1042,9 @@ function App() {
       const lines = text.split('\n').map(line => line.trim()).filter(line => line.length > 0);
 
       let successCount = 0;
+      let duplicateCount = 0;
       let failCount = 0;
+      const wordsToImport = [];
 
       for (const line of lines) {
         try {
@@ -1086,21 +1094,34 @@ function App() {
             }
           }
 
-          const wordData = { word, userId: currentUser.id };
+          const wordData = { word };
           if (meaning) {
             wordData.meaning = meaning;
           }
-
-          console.log('导入单词:', word, '含义:', meaning);
-          await import('./api/wordService').then(module => module.addWord(wordData));
-          successCount++;
+          wordsToImport.push(wordData);
         } catch (error) {
-          console.error('导入单词失败:', line, error);
+          console.error('解析单词失败:', line, error);
           failCount++;
         }
       }
 
-      alert(`导入完成！成功: ${successCount} 个，失败: ${failCount} 个`);
+      // 分批提交，每批一次请求
+      const { addWordsBatch } = await import('./api/wordService');
+      const BATCH_SIZE = 5000;
+      for (let i = 0; i < wordsToImport.length; i += BATCH_SIZE) {
+        const batch = wordsToImport.slice(i, i + BATCH_SIZE);
+        try {
+          const result = await addWordsBatch(batch, currentUser.id);
+          successCount += result.inserted;
+          duplicateCount += result.duplicates;
+          failCount += result.invalid;
+        } catch (error) {
+          console.error('批量导入单词失败:', error);
+          failCount += batch.length;
+        }
+      }
+
+      alert(`导入完成！成功: ${successCount} 个，重复: ${duplicateCount} 个，失败: ${failCount} 个`);
       setImportFile(null);
 
       // 清除文件输入
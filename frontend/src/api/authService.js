@@ -1,5 +1,7 @@
 // authService.js
 
+import { authHeaders } from './authToken';
+
 // 动态获取API基础URL，适配不同环境的访问
 const getApiBaseUrl = () => {
   const currentHost = window.location.hostname;
@@ -38,6 +40,21 @@ export const register = async (username, password) => {
   return response.json();
 };
 
+// 注册时输入用户名过程中检查是否可用
+export const checkUsernameAvailable = async (username) => {
+  const response = await fetch(
+    `${AUTH_BASE_URL}/username-available?username=${encodeURIComponent(username)}`
+  );
+
+  if (!response.ok) {
+    const text = await response.text();
+    throw new Error(text || `Failed to check username: ${response.status}`);
+  }
+
+  const data = await response.json();
+  return data.available;
+};
+
 export const login = async (username, password) => {
   console.log('🚀 发送登录请求到:', `${AUTH_BASE_URL}/login`);
 
@@ -73,9 +90,9 @@ export const verifyUser = async (userId) => {
   try {
     const response = await fetch(`${AUTH_BASE_URL}/verify`, {
       method: 'POST',
-      headers: {
+      headers: authHeaders({
         'Content-Type': 'application/json',
-      },
+      }),
       body: JSON.stringify({ userId }),
       // 添加超时设置
       signal: AbortSignal.timeout(5000)
@@ -104,9 +121,9 @@ export const updateDailyTasks = async (userId, tasks) => {
   try {
     const response = await fetch(`${AUTH_BASE_URL}/update-daily-tasks`, {
       method: 'POST',
-      headers: {
+      headers: authHeaders({
         'Content-Type': 'application/json',
-      },
+      }),
       body: JSON.stringify({
         userId,
         tasks
@@ -0,0 +1,12 @@
+// authToken.js
+
+// 从本地存储的登录信息中读取令牌，生成带 Authorization 的请求头
+export const authHeaders = (headers = {}) => {
+  try {
+    const stored = localStorage.getItem('vocab_user');
+    const token = stored ? JSON.parse(stored).token : null;
+    return token ? { ...headers, Authorization: `Bearer ${token}` } : headers;
+  } catch {
+    return headers;
+  }
+};
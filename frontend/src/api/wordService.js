@@ -1,5 +1,7 @@
 // wordService.js
 
+import { authHeaders } from './authToken';
+
 // 动态获取API基础URL，适配不同环境的访问
 const getApiBaseUrl = () => {
   const currentHost = window.location.hostname;
@@ -19,7 +21,7 @@ const API_BASE_URL = `${getApiBaseUrl()}/api/words`;
 export const getWords = async (userId = null) => {
   try {
     const url = userId ? `${API_BASE_URL}?userId=${userId}` : API_BASE_URL;
-    const response = await fetch(url);
+    const response = await fetch(url, { headers: authHeaders() });
     if (!response.ok) {
       throw new Error('Failed to fetch words');
     }
@@ -38,9 +40,9 @@ export const addWord = async (word, userId = null) => {
     const requestData = userId ? { ...word, userId } : word;
     const response = await fetch(API_BASE_URL, {
       method: 'POST',
-      headers: {
+      headers: authHeaders({
         'Content-Type': 'application/json',
-      },
+      }),
       body: JSON.stringify(requestData),
     });
     if (!response.ok) {
@@ -58,7 +60,7 @@ export const addWord = async (word, userId = null) => {
 export const getWordsFull = async (userId = null) => {
   try {
     const url = userId ? `${API_BASE_URL}/full?userId=${userId}` : `${API_BASE_URL}/full`;
-    const response = await fetch(url);
+    const response = await fetch(url, { headers: authHeaders() });
     if (!response.ok) {
       throw new Error('Failed to fetch words');
     }
@@ -70,12 +72,21 @@ export const getWordsFull = async (userId = null) => {
   }
 };
 
-// 批量添加单词
-export const addWordsBatch = async (words) => {
+// 批量添加单词（一次请求、一个事务），返回每行的导入结果
+export const addWordsBatch = async (words, userId = null) => {
   try {
-    const promises = words.map(word => addWord(word));
-    const results = await Promise.all(promises);
-    return results;
+    const response = await fetch(`${API_BASE_URL}/batch`, {
+      method: 'POST',
+      headers: authHeaders({
+        'Content-Type': 'application/json',
+      }),
+      body: JSON.stringify({ userId, words }),
+    });
+    if (!response.ok) {
+      throw new Error(`Failed to add words batch: ${response.status} ${response.statusText}`);
+    }
+    // 后端返回 { total, inserted, duplicates, invalid, results }
+    return await response.json();
   } catch (error) {
     console.error('Error adding words batch:', error);
     throw error;
@@ -88,6 +99,7 @@ export const deleteWord = async (index, userId = null) => {
     const url = userId ? `${API_BASE_URL}/${index}?userId=${userId}` : `${API_BASE_URL}/${index}`;
     const response = await fetch(url, {
       method: 'DELETE',
+      headers: authHeaders(),
     });
     if (!response.ok) {
       throw new Error('Failed to delete word');
@@ -106,6 +118,41 @@ export const rememberWord = async (index, userId = null) => {
     const url = userId ? `${API_BASE_URL}/remember/${index}?userId=${userId}` : `${API_BASE_URL}/remember/${index}`;
     const response = await fetch(url, {
       method: 'POST',
+      headers: authHeaders(),
+    });
+    if (!response.ok) {
+      throw new Error('Failed to remember word');
+    }
+    return await response.text();
+  } catch (error) {
+    console.error('Error remembering word:', error);
+    throw error;
+  }
+};
+
+// 按单词ID删除
+export const deleteWordById = async (id, userId) => {
+  try {
+    const response = await fetch(`${API_BASE_URL}/id/${id}?userId=${userId}`, {
+      method: 'DELETE',
+      headers: authHeaders(),
+    });
+    if (!response.ok) {
+      throw new Error('Failed to delete word');
+    }
+    return await response.text();
+  } catch (error) {
+    console.error('Error deleting word:', error);
+    throw error;
+  }
+};
+
+// 按单词ID记住单词（服务端原子地增加记住次数）
+export const rememberWordById = async (id, userId) => {
+  try {
+    const response = await fetch(`${API_BASE_URL}/${id}/remember?userId=${userId}`, {
+      method: 'POST',
+      headers: authHeaders(),
     });
     if (!response.ok) {
       throw new Error('Failed to remember word');
@@ -121,7 +168,7 @@ export const rememberWord = async (index, userId = null) => {
 export const getLearningStats = async (userId = null) => {
   try {
     const url = userId ? `${API_BASE_URL}/stats?userId=${userId}` : `${API_BASE_URL}/stats`;
-    const response = await fetch(url);
+    const response = await fetch(url, { headers: authHeaders() });
     if (!response.ok) {
       throw new Error('Failed to fetch learning stats');
     }
@@ -1,5 +1,5 @@
-import React, { useState } from 'react';
-import { login, register } from '../api/authService';
+import React, { useEffect, useState } from 'react';
+import { checkUsernameAvailable, login, register } from '../api/authService';
 import './AuthPanel.css';
 
 export default function AuthPanel({ onLogin, currentUser, onLogout }) {
@@ -8,6 +8,30 @@ export default function AuthPanel({ onLogin, currentUser, onLogout }) {
   const [password, setPassword] = useState('');
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
+  const [usernameTaken, setUsernameTaken] = useState(false);
+
+  // 注册模式下输入停顿后检查用户名是否已被占用
+  useEffect(() => {
+    setUsernameTaken(false);
+    const name = username.trim();
+    if (mode !== 'register' || !name) {
+      return undefined;
+    }
+    let cancelled = false;
+    const timer = setTimeout(() => {
+      checkUsernameAvailable(name)
+        .then((available) => {
+          if (!cancelled) {
+            setUsernameTaken(!available);
+          }
+        })
+        .catch(() => {});
+    }, 300);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [mode, username]);
 
   const handleSubmit = async (e) => {
     e.preventDefault();
@@ -112,6 +136,7 @@ export default function AuthPanel({ onLogin, currentUser, onLogout }) {
             value={username}
             onChange={(e) => setUsername(e.target.value)}
           />
+          {usernameTaken && <p className="auth-error">用户名已存在</p>}
         </div>
         
         <div className="form-group">
@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useLocation } from 'react-router-dom';
-import { getWordsFull } from '../api/wordService';
+import { getWordsFull, rememberWordById } from '../api/wordService';
 import { updateDailyTasks } from '../api/authService';
 import './WordCard.css';
 
@@ -18,11 +18,16 @@ export default function WordCard({ currentUser, onUserUpdate }) {
 
   useEffect(() => {
     const fetchWords = async () => {
-      // 如果用户未登录，仍然可以显示单词（但无法记录进度）
+      // 单词列表接口需要登录令牌，未登录时不请求，直接提示登录
+      if (!currentUser || !currentUser.id) {
+        setLoading(false);
+        setWords([]);
+        setError(null);
+        return;
+      }
       try {
         setLoading(true);
-        // 不传 userId，获取所有有含义的单词（与首页逻辑一致）
-        const data = await getWordsFull(null);
+        const data = await getWordsFull(currentUser.id);
         // 不过滤，显示所有单词（用于测试）
         const wordsToDisplay = data;
 
@@ -44,14 +49,13 @@ export default function WordCard({ currentUser, onUserUpdate }) {
       }
     };
     fetchWords();
-  }, []);
+  }, [currentUser?.id]);
 
   // 监听路由变化，当导航到背单词页面时刷新单词列表
   useEffect(() => {
-    if (location.pathname === '/study') {
+    if (location.pathname === '/study' && currentUser) {
       console.log('🔄 进入背单词页面，刷新单词列表');
-      // 不传 userId，获取所有单词（与首页逻辑一致）
-      getWordsFull(null).then(data => {
+      getWordsFull(currentUser.id).then(data => {
         const wordsToDisplay = data;
 
         console.log(`📊 单词统计: 总数 ${data.length}`);
@@ -157,16 +161,8 @@ export default function WordCard({ currentUser, onUserUpdate }) {
     // 如果用户已登录，更新后端记住次数和任务进度
     if (currentUser && wordToRemember) {
       try {
-        // 找到当前单词在单词列表中的索引，并更新后端记住次数
-        const { getWordsFull, rememberWord: apiRememberWord } = await import('../api/wordService');
-        // 获取所有单词来查找索引
-        const allWords = await getWordsFull(null);
-        const currentWordIndex = allWords.findIndex(word => word.word === wordToRemember.word);
-
-        if (currentWordIndex !== -1) {
-          // 调用后端API更新记住次数（需要传入 userId）
-          await apiRememberWord(currentWordIndex, currentUser.id);
-        }
+        // 按单词ID更新记住次数（服务端单条原子 UPDATE，不再重新拉取列表查找索引）
+        await rememberWordById(wordToRemember.id, currentUser.id);
 
         // 每记住10个单词（基于会话计数），增加背单词进度
         if (newCount % 10 === 0 && onUserUpdate) {
@@ -206,7 +202,6 @@ export default function WordCard({ currentUser, onUserUpdate }) {
     }
   };
 
-  // 移除登录检查，允许未登录用户也能背单词（但无法记录进度）
 
   // 调用本地例句数据库获取例句（免费）
   const fetchExamples = async (word) => {
@@ -321,6 +316,17 @@ export default function WordCard({ currentUser, onUserUpdate }) {
 
 
 
+  if (!currentUser) {
+    return (
+      <div className="word-card-container">
+        <p>请先登录后再背单词</p>
+        <p style={{ fontSize: '14px', color: '#999' }}>
+          登录后将显示您自己的单词库，并记录记住次数和每日任务进度
+        </p>
+      </div>
+    );
+  }
+
   if (loading) {
     return (
       <div className="word-card-container">
@@ -1,19 +1,19 @@
 import React, { useState, useEffect, useMemo, useCallback, useRef } from 'react';
 import './WordList.css';
-import { getWords, addWord, deleteWord } from '../api/wordService';
+import { getWordsFull, addWord, deleteWordById } from '../api/wordService';
 
 
 // 优化的列表项组件
-const WordListItem = React.memo(({ word, index, onDelete, isDeleting }) => {
+const WordListItem = React.memo(({ word, onDelete, isDeleting }) => {
   const handleDelete = useCallback(() => {
     if (!isDeleting) {
-      onDelete(index);
+      onDelete(word.id);
     }
-  }, [index, onDelete, isDeleting]);
+  }, [word.id, onDelete, isDeleting]);
 
   return (
     <li>
-      {word}
+      {word.word}
       <button onClick={handleDelete} disabled={isDeleting}>
         {isDeleting ? '删除中...' : '删除'}
       </button>
@@ -30,7 +30,7 @@ export default function WordList({ currentUser }) {
   const [error, setError] = useState(null);
   const [loading, setLoading] = useState(true);
   const [isAdding, setIsAdding] = useState(false);
-  const [deletingIndex, setDeletingIndex] = useState(null);
+  const [deletingId, setDeletingId] = useState(null);
   
   // 使用 ref 存储节流状态
   const addThrottleRef = useRef(null);
@@ -57,7 +57,8 @@ export default function WordList({ currentUser }) {
       
       try {
         setLoading(true);
-        const data = await getWords(currentUser.id);
+        // 完整信息包含单词ID，删除时按ID删除
+        const data = await getWordsFull(currentUser.id);
         setWords(data || []);
         setError(null);
       } catch (err) {
@@ -108,9 +109,10 @@ export default function WordList({ currentUser }) {
           ...(newMeaning.trim() && { meaning: newMeaning.trim() })
         };
         await addWord(wordData, currentUser.id);
-        
-        // 优化：直接更新本地状态，而不是重新获取整个列表
-        setWords(prevWords => [...prevWords, wordData.word]);
+
+        // 重新获取列表以拿到新单词的ID
+        const data = await getWordsFull(currentUser.id);
+        setWords(data || []);
         setNewWord('');
         setNewMeaning('');
         setError(null);
@@ -119,7 +121,7 @@ export default function WordList({ currentUser }) {
         console.error(err);
         // 如果添加失败，重新获取列表以确保数据一致性
         try {
-          const data = await getWords(currentUser.id);
+          const data = await getWordsFull(currentUser.id);
           setWords(data);
         } catch (fetchErr) {
           console.error('重新获取单词列表失败:', fetchErr);
@@ -132,8 +134,8 @@ export default function WordList({ currentUser }) {
   }, [newWord, newMeaning, currentUser, isAdding]);
 
   // 处理删除单词（使用节流）
-  const handleDeleteWord = useCallback(async (index) => {
-    if (!currentUser || deletingIndex !== null) {
+  const handleDeleteWord = useCallback(async (id) => {
+    if (!currentUser || deletingId !== null) {
       return;
     }
 
@@ -144,42 +146,42 @@ export default function WordList({ currentUser }) {
 
     // 设置新的节流
     deleteThrottleRef.current = setTimeout(async () => {
-      setDeletingIndex(index);
+      setDeletingId(id);
       try {
-        await deleteWord(index, currentUser.id);
-        
+        // 按单词ID删除，列表顺序变化或多端同时操作时不会删错单词
+        await deleteWordById(id, currentUser.id);
+
         // 优化：直接更新本地状态，而不是重新获取整个列表
-        setWords(prevWords => prevWords.filter((_, i) => i !== index));
+        setWords(prevWords => prevWords.filter(word => word.id !== id));
         setError(null);
       } catch (err) {
         setError('删除单词失败');
         console.error(err);
         // 如果删除失败，重新获取列表以确保数据一致性
         try {
-          const data = await getWords(currentUser.id);
+          const data = await getWordsFull(currentUser.id);
           setWords(data);
         } catch (fetchErr) {
           console.error('重新获取单词列表失败:', fetchErr);
         }
       } finally {
-        setDeletingIndex(null);
+        setDeletingId(null);
         deleteThrottleRef.current = null;
       }
     }, 200);
-  }, [currentUser, deletingIndex]);
+  }, [currentUser, deletingId]);
 
   // 使用 useMemo 优化列表渲染
   const wordListItems = useMemo(() => {
-    return words.map((word, index) => (
+    return words.map(word => (
       <WordListItem
-        key={`${word}-${index}`}
+        key={word.id}
         word={word}
-        index={index}
         onDelete={handleDeleteWord}
-        isDeleting={deletingIndex === index}
+        isDeleting={deletingId === word.id}
       />
     ));
-  }, [words, handleDeleteWord, deletingIndex]);
+  }, [words, handleDeleteWord, deletingId]);
 
   // 处理输入变化（使用 useCallback 优化）
   const handleNewWordChange = useCallback((e) => {